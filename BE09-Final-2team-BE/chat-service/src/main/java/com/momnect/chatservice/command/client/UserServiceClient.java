@@ -6,10 +6,17 @@ import com.momnect.chatservice.config.FeignClientConfig;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
 
 @FeignClient(name = "user-service", configuration = FeignClientConfig.class)
 public interface UserServiceClient {
 
     @GetMapping("/users/{userId}/basic")
     ApiResponse<UserBasicInfoResponse> getUserBasicInfo(@PathVariable Long userId);
+
+    // 기본 정보 일괄 조회 (없거나 탈퇴한 사용자는 응답에서 빠짐)
+    @GetMapping("/users/basic")
+    ApiResponse<List<UserBasicInfoResponse>> getUserBasicInfos(@RequestParam("userIds") List<Long> userIds);
 }
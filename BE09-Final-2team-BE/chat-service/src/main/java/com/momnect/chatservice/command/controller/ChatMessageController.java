@@ -49,15 +49,18 @@ public class ChatMessageController {
         }
     }
 
-    /** 메시지 조회 (최신순 페이지네이션) */
+    /** 메시지 조회 (최신순 페이지네이션, afterSeq 지정 시 그 순번 이후를 순번 오름차순으로) */
     @GetMapping
     public ResponseEntity<ApiResponse<PageResponse<ChatMessageResponse>>> list(
             @PathVariable Long roomId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) Long afterSeq,
             @AuthenticationPrincipal String userId
     ) {
-        List<ChatMessageResponse> content = chatMessageService.getMessages(roomId, page, size, Long.valueOf(userId));
+        List<ChatMessageResponse> content = afterSeq != null
+                ? chatMessageService.getMessagesAfter(roomId, afterSeq, size, Long.valueOf(userId))
+                : chatMessageService.getMessages(roomId, page, size, Long.valueOf(userId));
         PageResponse<ChatMessageResponse> body = PageResponse.<ChatMessageResponse>builder()
                 .content(content)
                 .page(page)
@@ -35,10 +35,14 @@ public class ChatRoomController {
         }
     }
 
-    /** 내가 참여한 방 목록 (최근 메시지 기준) */
+    /** 내가 참여한 방 목록 (최근 메시지 기준, 페이지 단위) */
     @GetMapping("/me")
-    public ResponseEntity<ApiResponse<List<ChatRoomSummaryResponse>>> myRooms(@AuthenticationPrincipal String userId) {
-        List<ChatRoomSummaryResponse> rooms = chatRoomService.listRoomsForUser(Long.valueOf(userId));
+    public ResponseEntity<ApiResponse<List<ChatRoomSummaryResponse>>> myRooms(@AuthenticationPrincipal String userId,
+                                                                              @RequestParam(defaultValue = "0") int page,
+                                                                              @RequestParam(defaultValue = "100") int size) {
+        int safePage = Math.max(0, page);
+        int safeSize = Math.max(1, Math.min(size, 100));
+        List<ChatRoomSummaryResponse> rooms = chatRoomService.listRoomsForUser(Long.valueOf(userId), safePage, safeSize);
         return ResponseEntity.ok(ApiResponse.success(rooms));
     }
 
@@ -8,4 +8,5 @@ import java.time.LocalDateTime;
 public class ChatMessageMarkReadRequest {
     private Long userId;
     private LocalDateTime upTo; // null이면 now()
+    private Long upToSeq;       // 읽은 마지막 순번, null이면 upTo 시각까지 보낸 메시지의 마지막 순번
 }
@@ -9,6 +9,7 @@ public class ChatMessageResponse {
     private String id;          // Mongo ObjectId hex string
     private Long roomId;        // 채팅방 ID (chatRoomId와 동일하지만 더 명확한 네이밍)
     private Long chatRoomId;    // 기존 필드 (하위 호환성)
+    private Long seq;           // 방 단위 메시지 순번 (연속되지 않으면 누락 → afterSeq로 보충)
     private Long senderId;
     private String message;
     private LocalDateTime sentAt;
@@ -25,10 +25,15 @@ public class ChatParticipant {
     @Column(name = "user_id", nullable = false)
     private Long userId;
 
-    // 읽지 않은 메시지 수
+    // 읽지 않은 메시지 수 (seq 도입 이전 값 - 기동 시 lastReadSeq로 옮기고 0으로 비움)
     @Column(name = "unread_count", nullable = false)
     private int unreadCount;
 
+    // 마지막으로 읽은 메시지 순번 (안읽음 = 방 lastSeq - lastReadSeq)
+    // 이전 안읽음이 남은 방은 음수일 수 있음 → 순번이 있는 메시지를 읽으면 함께 정리됨
+    @Column(name = "last_read_seq", nullable = false)
+    private long lastReadSeq;
+
     @Column(name = "last_read_at", nullable = false)
     private LocalDateTime lastReadAt;
 
@@ -44,6 +49,11 @@ public class ChatParticipant {
         this.unreadCount = 0;
     }
 
+    /** 방의 마지막 순번 기준 안 읽은 메시지 수 */
+    public int unreadFor(long roomSeq) {
+        return (int) Math.max(0, roomSeq - lastReadSeq);
+    }
+
     /** 마지막 읽은 시간 갱신 */
     public void updateLastReadAt(LocalDateTime upTo) {
         this.lastReadAt = upTo != null ? upTo : LocalDateTime.now();
@@ -33,4 +33,8 @@ public class ChatRoom {
 
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
+
+    // 마지막으로 발급한 메시지 순번 (방 단위 1부터 증가)
+    @Column(name = "last_seq", nullable = false)
+    private long lastSeq;
 }
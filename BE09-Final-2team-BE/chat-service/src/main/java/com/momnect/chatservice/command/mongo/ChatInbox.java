@@ -0,0 +1,78 @@
+package com.momnect.chatservice.command.mongo;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅 목록(inbox) 읽기 모델 - 참여자(방 x 사용자)당 1건
+ * - 메시지 전송 시 마지막 메시지 갱신 → 목록 조회는 user_id 인덱스 범위 읽기 한 번
+ * - 안읽음 수는 저장하지 않음 (DB 순번 차이가 유일한 기준, ChatInboxService#findPage)
+ * - 상품/상대방 표시 정보는 캐시 → 목록 조회 시 display_refreshed_at 기준으로 주기적으로 다시 채움
+ */
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+@Document(collection = "chat_inbox")
+@CompoundIndex(name = "user_activity_idx", def = "{'user_id': 1, 'last_sent_at': -1}")
+public class ChatInbox {
+
+    @Id
+    private String id;  // "{roomId}:{userId}"
+
+    @Field("room_id")
+    private Long roomId;
+
+    @Field("user_id")
+    private Long userId;
+
+    // 방 정보
+    @Field("product_id")
+    private Long productId;
+
+    @Field("buyer_id")
+    private Long buyerId;
+
+    @Field("seller_id")
+    private Long sellerId;
+
+    // 상품 표시 정보 (캐시)
+    @Field("product_name")
+    private String productName;
+
+    @Field("product_price")
+    private Integer productPrice;
+
+    @Field("product_thumbnail_url")
+    private String productThumbnailUrl;
+
+    @Field("trade_status")
+    private String tradeStatus;
+
+    // 상대방 표시 정보 (캐시)
+    @Field("other_user_id")
+    private Long otherUserId;
+
+    @Field("other_user_nickname")
+    private String otherUserNickname;
+
+    @Field("other_user_profile_image_url")
+    private String otherUserProfileImageUrl;
+
+    @Field("display_refreshed_at")
+    private LocalDateTime displayRefreshedAt;  // 표시 정보를 원본에서 마지막으로 채운 시각 (없으면 다음 조회에서 갱신)
+
+    // 마지막 메시지
+    @Field("last_message")
+    private String lastMessage;
+
+    @Field("last_sent_at")
+    private LocalDateTime lastSentAt;  // 정렬 기준 (메시지가 없는 방은 null → 내림차순에서 맨 뒤)
+
+    public static String idOf(Long roomId, Long userId) {
+        return roomId + ":" + userId;
+    }
+}
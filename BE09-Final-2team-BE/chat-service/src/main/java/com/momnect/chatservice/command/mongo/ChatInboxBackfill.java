@@ -0,0 +1,24 @@
+package com.momnect.chatservice.command.mongo;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDateTime;
+
+/**
+ * chat_inbox 재구성 완료 표시 - 사용자당 1건
+ * - chat_inbox 도입 이전에 만들어진 방은 사용자별로 한 번만 원본 데이터로 채운다
+ */
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+@Document(collection = "chat_inbox_backfill")
+public class ChatInboxBackfill {
+
+    @Id
+    private Long userId;
+
+    @Field("backfilled_at")
+    private LocalDateTime backfilledAt;
+}
@@ -14,6 +14,7 @@ import java.util.List;
 @NoArgsConstructor @AllArgsConstructor @Builder
 @Document(collection = "chat_message")
 @CompoundIndex(name = "room_sentAt_idx", def = "{'room_id': 1, 'sent_at': -1}")
+@CompoundIndex(name = "room_seq_idx", def = "{'room_id': 1, 'seq': 1}")
 public class ChatMessage {
 
     @Id
@@ -38,6 +39,9 @@ public class ChatMessage {
     @Field("sent_at")
     private LocalDateTime sentAt;  // 전송 시간
 
+    @Field("seq")
+    private Long seq;  // 방 단위 메시지 순번 (누락 감지용, seq 도입 이전 메시지는 null)
+
     @Field("read_by")
     private List<String> readBy;  // 읽은 사용자 ID 목록
 
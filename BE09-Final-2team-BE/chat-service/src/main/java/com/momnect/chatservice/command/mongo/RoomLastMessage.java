@@ -0,0 +1,21 @@
+package com.momnect.chatservice.command.mongo;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+
+import java.time.LocalDateTime;
+
+/**
+ * 방별 마지막 메시지 (chat_message 집계 결과)
+ */
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+public class RoomLastMessage {
+
+    @Id
+    private String roomId;  // $group _id (room_id)
+
+    private String content;
+
+    private LocalDateTime sentAt;
+}
@@ -1,12 +1,15 @@
 package com.momnect.chatservice.command.repository;
 
 import com.momnect.chatservice.command.mongo.ChatMessage;
+import com.momnect.chatservice.command.mongo.RoomLastMessage;
 import org.bson.types.ObjectId;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.Aggregation;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository("chatMessageRepository")
@@ -17,9 +20,20 @@ public interface ChatMessageRepository extends MongoRepository<ChatMessage, Obje
     // 방의 메시지 최신순 페이지네이션
     List<ChatMessage> findByRoomIdOrderBySentAtDesc(String roomId, Pageable pageable);
 
+    // 특정 순번 이후 메시지 (순번 오름차순, 누락 메시지 보충용)
+    List<ChatMessage> findByRoomIdAndSeqGreaterThanOrderBySeqAsc(String roomId, Long seq, Pageable pageable);
+
     // 마지막(가장 최근) 메시지
     ChatMessage findTopByRoomIdOrderBySentAtDesc(String roomId);
 
+    // 여러 방의 마지막 메시지를 집계 한 번으로 (room_sentAt_idx 사용)
+    @Aggregation(pipeline = {
+            "{ $match: { room_id: { $in: ?0 } } }",
+            "{ $sort: { room_id: 1, sent_at: -1 } }",
+            "{ $group: { _id: '$room_id', content: { $first: '$content' }, sentAt: { $first: '$sent_at' } } }"
+    })
+    List<RoomLastMessage> findLastMessagesByRoomIds(Collection<String> roomIds);
+
     // 특정 사용자가 읽지 않은 메시지 수
     long countByRoomIdAndReadByNotContaining(String roomId, String userId);
 
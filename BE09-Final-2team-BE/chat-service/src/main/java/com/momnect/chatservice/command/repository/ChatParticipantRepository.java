@@ -2,8 +2,12 @@ package com.momnect.chatservice.command.repository;
 
 import com.momnect.chatservice.command.entity.ChatParticipant;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -19,4 +23,36 @@ public interface ChatParticipantRepository extends JpaRepository<ChatParticipant
 
     // 안읽은 카운트 합계 등 처리용
     long countByChatRoomIdAndUnreadCountGreaterThan(Long chatRoomId, int zero);
+
+    // 읽은 순번 앞으로만 이동 (발신자 본인 메시지 / 읽음 처리)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE tbl_chat_participant SET last_read_seq = GREATEST(last_read_seq, :seq), " +
+            "last_read_at = :readAt WHERE chat_room_id = :roomId AND user_id = :userId",
+            nativeQuery = true)
+    int advanceLastReadSeq(@Param("roomId") Long roomId, @Param("userId") Long userId,
+                           @Param("seq") long seq, @Param("readAt") LocalDateTime readAt);
+
+    // 안읽음 = 방 lastSeq - 내 lastReadSeq (메시지 수를 세지 않음)
+    @Query("SELECT r.lastSeq - p.lastReadSeq FROM ChatParticipant p, ChatRoom r " +
+            "WHERE r.id = p.chatRoomId AND p.chatRoomId = :roomId AND p.userId = :userId")
+    Long findUnread(@Param("roomId") Long roomId, @Param("userId") Long userId);
+
+    // 내 모든 방의 [방 ID, 안읽음]
+    @Query("SELECT p.chatRoomId, r.lastSeq - p.lastReadSeq FROM ChatParticipant p, ChatRoom r " +
+            "WHERE r.id = p.chatRoomId AND p.userId = :userId")
+    List<Object[]> findUnreadByUserId(@Param("userId") Long userId);
+
+    // 내 방 중 지정한 방들의 [방 ID, 안읽음] (채팅 목록 한 페이지)
+    @Query("SELECT p.chatRoomId, r.lastSeq - p.lastReadSeq FROM ChatParticipant p, ChatRoom r " +
+            "WHERE r.id = p.chatRoomId AND p.userId = :userId AND p.chatRoomId IN :roomIds")
+    List<Object[]> findUnreadByUserIdAndRoomIds(@Param("userId") Long userId, @Param("roomIds") List<Long> roomIds);
+
+    // seq 도입 이전 안읽음 이전: lastReadSeq를 unread_count만큼 뒤로 (안읽음 = lastSeq - lastReadSeq에 그대로 더해짐)
+    // 같은 문장에서 unread_count를 0으로 → 행 단위로 한 번만 적용 (SET은 왼쪽부터 이전 값 기준으로 계산)
+    @Modifying
+    @Query(value = "UPDATE tbl_chat_participant " +
+            "SET last_read_seq = last_read_seq - unread_count, unread_count = 0 " +
+            "WHERE unread_count > 0",
+            nativeQuery = true)
+    int migrateLegacyUnreadCounts();
 }
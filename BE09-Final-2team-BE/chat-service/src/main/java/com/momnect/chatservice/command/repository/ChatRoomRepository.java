@@ -2,6 +2,9 @@ package com.momnect.chatservice.command.repository;
 
 import com.momnect.chatservice.command.entity.ChatRoom;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -20,5 +23,18 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
     ChatRoom findFirstByBuyerIdAndSellerIdAndProductId(Long buyerId, Long sellerId, Long productId);
 
     boolean existsByBuyerIdAndSellerIdAndProductId(Long buyerId, Long sellerId, Long productId);
+
+    // 메시지 순번 발급: 방 행 잠금 + 증가 (같은 커넥션에서 lastInsertId()로 값 확인)
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE tbl_chat_room SET last_seq = LAST_INSERT_ID(last_seq + 1) WHERE id = :roomId",
+            nativeQuery = true)
+    int incrementSeq(@Param("roomId") Long roomId);
+
+    @Query(value = "SELECT LAST_INSERT_ID()", nativeQuery = true)
+    long lastInsertId();
+
+    // 방 마지막 순번
+    @Query("SELECT r.lastSeq FROM ChatRoom r WHERE r.id = :roomId")
+    Long findLastSeq(@Param("roomId") Long roomId);
 }
 
@@ -0,0 +1,299 @@
+package com.momnect.chatservice.command.service;
+
+import com.momnect.chatservice.command.client.ProductClient;
+import com.momnect.chatservice.command.client.UserServiceClient;
+import com.momnect.chatservice.command.client.dto.ApiResponse;
+import com.momnect.chatservice.command.client.dto.ProductSummaryResponse;
+import com.momnect.chatservice.command.client.dto.UserBasicInfoResponse;
+import com.momnect.chatservice.command.dto.room.ChatRoomSummaryResponse;
+import com.momnect.chatservice.command.entity.ChatRoom;
+import com.momnect.chatservice.command.mongo.ChatInbox;
+import com.momnect.chatservice.command.mongo.ChatInboxBackfill;
+import com.momnect.chatservice.command.repository.ChatParticipantRepository;
+import com.momnect.chatservice.common.AfterCommit;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 채팅 목록(inbox) 읽기 모델 관리 (chat_inbox)
+ * - 방 생성: 참여자 2명 문서 생성 (상품/상대방 표시 정보 포함)
+ * - 메시지 전송: 마지막 메시지 갱신
+ * - 목록 조회: user_id + last_sent_at 인덱스로 페이지 단위 읽기
+ *   안읽음 수는 inbox에 두지 않고 페이지의 방들만 DB 순번 차이(방 lastSeq - lastReadSeq)로 한 번에 조회
+ *   → 방 안읽음 / 안읽음 요약 / 목록이 같은 값 (Mongo 반영이 실패해도 어긋나지 않음)
+ * - 상품/상대방 표시 정보: 조회한 페이지에서 DISPLAY_TTL이 지난 문서만 원본으로 다시 채움 (상품 1회 + 사용자 1회)
+ * - 도입 이전 방: 사용자별로 한 번 원본 데이터로 채우고 chat_inbox_backfill에 완료 표시
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatInboxService {
+
+    // 거래 상태/상품명/닉네임 등 표시 정보를 원본에서 다시 읽는 주기
+    private static final Duration DISPLAY_TTL = Duration.ofMinutes(5);
+
+    private final MongoTemplate mongoTemplate;
+    private final UserServiceClient userServiceClient;
+    private final ProductClient productClient;
+    private final ChatParticipantRepository participantRepository;
+
+    // 재구성 완료가 확인된 사용자 (목록 조회마다 완료 표시를 다시 읽지 않도록)
+    private final Set<Long> backfilledUsers = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    void ensureIndex() {
+        try {
+            mongoTemplate.indexOps(ChatInbox.class).ensureIndex(new Index()
+                    .named("user_activity_idx")
+                    .on("user_id", Sort.Direction.ASC)
+                    .on("last_sent_at", Sort.Direction.DESC));
+        } catch (Exception e) {
+            log.warn("chat_inbox 인덱스 생성 실패", e);
+        }
+    }
+
+    /**
+     * 방 생성 → 구매자/판매자 inbox 문서 생성 (트랜잭션 안이면 커밋 이후)
+     */
+    public void onRoomCreated(ChatRoom room, @Nullable ProductSummaryResponse product) {
+        Runnable action = () -> {
+            try {
+                Map<Long, UserBasicInfoResponse> users = fetchUsers(List.of(room.getBuyerId(), room.getSellerId()));
+                upsertRoomEntry(room, room.getBuyerId(), room.getSellerId(), product, users.get(room.getSellerId()));
+                upsertRoomEntry(room, room.getSellerId(), room.getBuyerId(), product, users.get(room.getBuyerId()));
+            } catch (Exception e) {
+                log.error("chat_inbox 생성 실패 - roomId: {}", room.getId(), e);
+            }
+        };
+        AfterCommit.run(action);
+    }
+
+    /**
+     * 기존 방 재사용 → 참여자 inbox 문서가 없을 때만 생성 (도입 이전 방, 생성 직후 반영 실패 등)
+     */
+    public void ensureRoomEntries(ChatRoom room, @Nullable ProductSummaryResponse product) {
+        long existing = mongoTemplate.count(new Query(Criteria.where("_id").in(
+                ChatInbox.idOf(room.getId(), room.getBuyerId()),
+                ChatInbox.idOf(room.getId(), room.getSellerId()))), ChatInbox.class);
+        if (existing < 2) {
+            onRoomCreated(room, product);
+        }
+    }
+
+    /**
+     * 메시지 전송 → 마지막 메시지 갱신
+     */
+    public void onMessageSent(Long roomId, String content, LocalDateTime sentAt) {
+        // 늦게 도착한 이전 메시지가 최신 메시지를 덮어쓰지 않도록 시각 비교
+        Query newer = new Query(Criteria.where("room_id").is(roomId)
+                .and("last_sent_at").not().gte(sentAt));
+        mongoTemplate.updateMulti(newer, new Update()
+                .set("last_message", content)
+                .set("last_sent_at", sentAt), ChatInbox.class);
+    }
+
+    /**
+     * 내 채팅 목록 (최근 메시지순, 메시지 없는 방은 뒤로) + 페이지 방들의 안읽음 수 (DB 1회)
+     */
+    public List<ChatRoomSummaryResponse> findPage(Long userId, int page, int size) {
+        Query q = new Query(Criteria.where("user_id").is(userId))
+                .with(Sort.by(Sort.Direction.DESC, "last_sent_at"))
+                .skip((long) page * size)
+                .limit(size);
+        List<ChatInbox> entries = mongoTemplate.find(q, ChatInbox.class);
+        if (entries.isEmpty()) return List.of();
+
+        LocalDateTime staleBefore = LocalDateTime.now().minus(DISPLAY_TTL);
+        List<ChatInbox> stale = entries.stream()
+                .filter(i -> i.getDisplayRefreshedAt() == null || i.getDisplayRefreshedAt().isBefore(staleBefore))
+                .toList();
+        if (!stale.isEmpty()) {
+            refreshDisplay(userId, stale);
+        }
+
+        Map<Long, Long> unread = participantRepository
+                .findUnreadByUserIdAndRoomIds(userId, entries.stream().map(ChatInbox::getRoomId).toList()).stream()
+                .collect(Collectors.toMap(row -> (Long) row[0], row -> Math.max(0, ((Number) row[1]).longValue()), (a, b) -> a));
+        return entries.stream()
+                .map(i -> toSummary(i, unread.getOrDefault(i.getRoomId(), 0L)))
+                .toList();
+    }
+
+    public boolean isBackfilled(Long userId) {
+        if (backfilledUsers.contains(userId)) return true;
+        boolean done = mongoTemplate.exists(new Query(Criteria.where("_id").is(userId)), ChatInboxBackfill.class);
+        if (done) backfilledUsers.add(userId);
+        return done;
+    }
+
+    /**
+     * 원본 데이터로 구성한 목록으로 사용자의 inbox 문서를 한 번 채우고 완료 표시
+     * - 이미 있는 문서(새 방, 메시지로 갱신된 방)는 덮어쓰지 않고 없는 방만 추가
+     */
+    public void backfill(Long userId, List<ChatRoomSummaryResponse> summaries) {
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ChatInbox.class);
+        int count = 0;
+        for (ChatRoomSummaryResponse s : summaries) {
+            if (s.getProductId() == null) continue; // 방 정보가 없는 참여 행
+            bulk.upsert(new Query(Criteria.where("_id").is(ChatInbox.idOf(s.getRoomId(), userId))), new Update()
+                    .setOnInsert("room_id", s.getRoomId())
+                    .setOnInsert("user_id", userId)
+                    .setOnInsert("product_id", s.getProductId())
+                    .setOnInsert("buyer_id", s.getBuyerId())
+                    .setOnInsert("seller_id", s.getSellerId())
+                    .setOnInsert("product_name", s.getProductName())
+                    .setOnInsert("product_price", s.getProductPrice())
+                    .setOnInsert("product_thumbnail_url", s.getProductThumbnailUrl())
+                    .setOnInsert("trade_status", s.getTradeStatus())
+                    .setOnInsert("other_user_id", s.getOtherUserId())
+                    .setOnInsert("other_user_nickname", s.getOtherUserNickname())
+                    .setOnInsert("other_user_profile_image_url", s.getOtherUserProfileImageUrl())
+                    .setOnInsert("last_message", s.getLastMessage())
+                    .setOnInsert("last_sent_at", s.getLastSentAt())
+                    .setOnInsert("display_refreshed_at", LocalDateTime.now()));
+            count++;
+        }
+        if (count > 0) bulk.execute();
+
+        mongoTemplate.save(new ChatInboxBackfill(userId, LocalDateTime.now()));
+        backfilledUsers.add(userId);
+    }
+
+    private void upsertRoomEntry(ChatRoom room, Long userId, Long otherUserId,
+                                 @Nullable ProductSummaryResponse product, @Nullable UserBasicInfoResponse other) {
+        Update update = new Update()
+                .set("room_id", room.getId())
+                .set("user_id", userId)
+                .set("product_id", room.getProductId())
+                .set("buyer_id", room.getBuyerId())
+                .set("seller_id", room.getSellerId())
+                .set("product_name", product != null ? product.getName() : "상품명 없음")
+                .set("product_price", product != null ? product.getPrice() : 0)
+                .set("product_thumbnail_url", product != null ? product.getThumbnailUrl() : null)
+                .set("trade_status", product != null ? product.getTradeStatus() : "UNKNOWN")
+                .set("other_user_id", otherUserId)
+                .set("other_user_nickname", other != null ? other.getNickname() : "상대방")
+                .set("other_user_profile_image_url", other != null ? other.getProfileImageUrl() : null)
+                .set("display_refreshed_at", LocalDateTime.now());
+        mongoTemplate.upsert(
+                new Query(Criteria.where("_id").is(ChatInbox.idOf(room.getId(), userId))),
+                update, ChatInbox.class);
+    }
+
+    /**
+     * 표시 정보 갱신 (상품 요약 1회 + 상대방 정보 1회) → 문서와 응답에 같이 반영
+     * - 조회에 실패한 항목은 이전 값을 그대로 두고 갱신 시각도 남겨 다음 조회에서 다시 시도
+     */
+    private void refreshDisplay(Long userId, List<ChatInbox> stale) {
+        Map<Long, ProductSummaryResponse> products = fetchProducts(
+                stale.stream().map(ChatInbox::getProductId).filter(Objects::nonNull).distinct().toList(), userId);
+        Map<Long, UserBasicInfoResponse> users = fetchUsers(
+                stale.stream().map(ChatInbox::getOtherUserId).filter(Objects::nonNull).distinct().toList());
+        if (products.isEmpty() && users.isEmpty()) return;
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ChatInbox.class);
+        int count = 0;
+        LocalDateTime now = LocalDateTime.now();
+        for (ChatInbox i : stale) {
+            ProductSummaryResponse product = products.get(i.getProductId());
+            UserBasicInfoResponse other = users.get(i.getOtherUserId());
+            if (product == null && other == null) continue;
+
+            Update update = new Update();
+            if (product != null) {
+                i.setProductName(product.getName());
+                i.setProductPrice(product.getPrice());
+                i.setProductThumbnailUrl(product.getThumbnailUrl());
+                i.setTradeStatus(product.getTradeStatus());
+                update.set("product_name", product.getName())
+                        .set("product_price", product.getPrice())
+                        .set("product_thumbnail_url", product.getThumbnailUrl())
+                        .set("trade_status", product.getTradeStatus());
+            }
+            if (other != null) {
+                i.setOtherUserNickname(other.getNickname());
+                i.setOtherUserProfileImageUrl(other.getProfileImageUrl());
+                update.set("other_user_nickname", other.getNickname())
+                        .set("other_user_profile_image_url", other.getProfileImageUrl());
+            }
+            if (product != null && other != null) {
+                update.set("display_refreshed_at", now);
+            }
+            bulk.updateOne(new Query(Criteria.where("_id").is(i.getId())), update);
+            count++;
+        }
+        if (count == 0) return;
+        try {
+            bulk.execute();
+        } catch (Exception e) {
+            log.warn("chat_inbox 표시 정보 갱신 실패 - userId: {}", userId, e);
+        }
+    }
+
+    private Map<Long, ProductSummaryResponse> fetchProducts(List<Long> productIds, Long userId) {
+        if (productIds.isEmpty()) return Map.of();
+        try {
+            ApiResponse<List<ProductSummaryResponse>> response = productClient.getProductSummaries(productIds, userId);
+            if (response != null && response.isSuccess() && response.getData() != null) {
+                return response.getData().stream()
+                        .collect(Collectors.toMap(ProductSummaryResponse::getId, Function.identity(), (a, b) -> a));
+            }
+        } catch (Exception e) {
+            log.error("상품 정보 일괄 조회 실패 - productIds: {}", productIds, e);
+        }
+        return Map.of();
+    }
+
+    private Map<Long, UserBasicInfoResponse> fetchUsers(List<Long> userIds) {
+        if (userIds.isEmpty()) return Map.of();
+        try {
+            ApiResponse<List<UserBasicInfoResponse>> response = userServiceClient.getUserBasicInfos(userIds);
+            if (response != null && response.isSuccess() && response.getData() != null) {
+                return response.getData().stream()
+                        .collect(Collectors.toMap(UserBasicInfoResponse::getId, Function.identity(), (a, b) -> a));
+            }
+        } catch (Exception e) {
+            log.error("사용자 정보 일괄 조회 실패 - userIds: {}", userIds, e);
+        }
+        return Map.of();
+    }
+
+    private static ChatRoomSummaryResponse toSummary(ChatInbox i, long unreadCount) {
+        return ChatRoomSummaryResponse.builder()
+                .roomId(i.getRoomId())
+                .productId(i.getProductId())
+                .productName(i.getProductName())
+                .productPrice(i.getProductPrice())
+                .productThumbnailUrl(i.getProductThumbnailUrl())
+                .tradeStatus(i.getTradeStatus())
+                .buyerId(i.getBuyerId())
+                .sellerId(i.getSellerId())
+                .lastMessage(i.getLastMessage())
+                .lastSentAt(i.getLastSentAt())
+                .unreadCount(unreadCount)
+                .otherUserId(i.getOtherUserId())
+                .otherUserNickname(i.getOtherUserNickname())
+                .otherUserProfileImageUrl(i.getOtherUserProfileImageUrl())
+                .build();
+    }
+}
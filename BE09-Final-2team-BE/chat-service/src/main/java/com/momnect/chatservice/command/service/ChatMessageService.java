@@ -4,27 +4,32 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.momnect.chatservice.command.dto.message.ChatMessageMarkReadRequest;
 import com.momnect.chatservice.command.dto.message.ChatMessageResponse;
 import com.momnect.chatservice.command.dto.message.ChatMessageSendRequest;
-import com.momnect.chatservice.command.entity.ChatParticipant;
 import com.momnect.chatservice.command.mongo.ChatMessage;
 import com.momnect.chatservice.command.repository.ChatMessageRepository;
 import com.momnect.chatservice.command.repository.ChatParticipantRepository;
 import com.momnect.chatservice.command.service.ChatRoomService;
+import com.mongodb.client.result.UpdateResult;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.bson.types.ObjectId;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ChatMessageService {
@@ -33,6 +38,9 @@ public class ChatMessageService {
     private final ChatParticipantRepository participantRepository;
     private final MongoTemplate mongoTemplate;
     private final ChatRoomService chatRoomService;
+    private final ChatInboxService chatInboxService;
+    private final ChatUnreadService chatUnreadService;
+    private final PlatformTransactionManager transactionManager;
     // private final StringRedisTemplate srt; // 임시로 Redis 의존성 제거
 
     private final ObjectMapper objectMapper = new ObjectMapper();
@@ -40,8 +48,7 @@ public class ChatMessageService {
     // =========================
     // 메시지 전송 시 자동 채팅방 생성 (새로운 메서드)
     // =========================
-    /** 메시지 전송 시 채팅방이 없으면 자동 생성 + 메시지 전송 */
-    @Transactional
+    /** 메시지 전송 시 채팅방이 없으면 자동 생성 + 메시지 전송 (방 생성은 자체 트랜잭션으로 먼저 커밋) */
     public ChatMessageResponse sendWithAutoRoomCreation(ChatMessageSendRequest req, Long userId) {
         // 1) 채팅방이 없으면 자동 생성
         Long roomId = chatRoomService.findOrCreateRoomForProduct(req.getProductId(), userId);
@@ -53,10 +60,12 @@ public class ChatMessageService {
     // =========================
     // 메시지 전송 (REST에서 사용)
     // =========================
-    /** 메시지 전송 + 상대 unread 증가(Participant) + Redis 카운터/이벤트 */
-    @Transactional
+    /** 메시지 전송 + 방 순번 발급(상대 unread +1) + Redis 카운터/이벤트 */
     public ChatMessageResponse send(Long roomId, ChatMessageSendRequest req, Long userId) {
-        // 1) Mongo 저장 (통합된 필드 구조 사용)
+        // 1) 방 순번 발급 + 발신자 lastReadSeq 이동 (DB 커밋, Redis는 커밋 이후)
+        long seq = allocateSeq(roomId, req.getSenderId());
+
+        // 2) Mongo 저장 (순번 확정 이후)
         ChatMessage saved = messageRepository.save(ChatMessage.builder()
                 .id(new ObjectId())
                 .roomId(roomId.toString())
@@ -65,31 +74,12 @@ public class ChatMessageService {
                 .content(req.getMessage())
                 .messageType("TEXT")
                 .sentAt(LocalDateTime.now())
+                .seq(seq)
                 .readBy(new ArrayList<>())
                 .build());
+        chatInboxService.onMessageSent(roomId, saved.getContent(), saved.getSentAt());
 
-        // 2) 상대 참여자 unreadCount +1 (DB)
-        List<ChatParticipant> participants = participantRepository.findByChatRoomId(roomId);
-        for (ChatParticipant p : participants) {
-            if (!p.getUserId().equals(req.getSenderId())) {
-                p.increaseUnreadCount();
-                participantRepository.save(p);
-            }
-        }
-
-        // 3) Redis: seq 증가 & (옵션) 상대 unread 카운트도 증가 (캐시/실시간 뱃지용)
-        // String seqKey = "room:" + roomId + ":seq";
-        // Long seq = srt.opsForValue().increment(seqKey); // null 방지
-        // if (seq == null) seq = 0L;
-
-        // for (ChatParticipant p : participants) {
-        //     if (!p.getUserId().equals(req.getSenderId())) {
-        //         String unreadKey = "room:" + roomId + ":unread:" + p.getUserId();
-        //         srt.opsForValue().increment(unreadKey);
-        //     }
-        // }
-
-        // 4) Redis Pub/Sub: 방 채널로 이벤트 브로드캐스트 (현재 DTO 구조에 맞춤)
+        // 3) Redis Pub/Sub: 방 채널로 이벤트 브로드캐스트 (현재 DTO 구조에 맞춤)
         // WsSendMessage evt = WsSendMessage.builder()
         //         .roomId(roomId)
         //         .senderId(req.getSenderId())
@@ -102,6 +92,21 @@ public class ChatMessageService {
         return toResponse(saved);
     }
 
+    /**
+     * 방 순번 발급 + 발신자 lastReadSeq 이동을 먼저 커밋
+     * - 메시지는 순번이 확정된 뒤에 Mongo에 저장 → 커밋 실패로 되돌아간 순번이 다른 메시지에 다시 붙지 않음
+     * - 반대로 Mongo 저장이 실패하면 그 순번은 빈 채로 남는다
+     *   (상대방 안읽음이 1 많게 보이다가 다음 메시지를 읽으면 정리됨)
+     */
+    private long allocateSeq(Long roomId, Long senderId) {
+        Long seq = new TransactionTemplate(transactionManager).execute(status -> {
+            long next = chatRoomService.nextSeq(roomId);
+            chatUnreadService.bumpUnreadForOpponents(roomId, senderId, next);
+            return next;
+        });
+        return seq;
+    }
+
     // =========================
     // 메시지 전송 (WS에서 사용하기 쉬운 오버로드)
     // =========================
@@ -109,12 +114,14 @@ public class ChatMessageService {
      * WS 핸들러에서 간편 사용: senderId/receiverId/text 형태
      * - 저장/카운팅/Publish 로직은 위 REST와 동일
      */
-    @Transactional
     public ChatMessageResponse send(Long roomId, Long senderId, Long receiverId, String text) {
         // senderName을 알 수 있으면 채워주고, 없으면 null
         String senderName = null;
 
-        // 1) Mongo 저장
+        // 1) 방 순번 발급 + 발신자 lastReadSeq 이동 (DB 커밋, Redis는 커밋 이후)
+        long seq = allocateSeq(roomId, senderId);
+
+        // 2) Mongo 저장 (순번 확정 이후)
         ChatMessage saved = messageRepository.save(ChatMessage.builder()
                 .id(new ObjectId())
                 .roomId(roomId.toString())
@@ -123,31 +130,12 @@ public class ChatMessageService {
                 .content(text)
                 .messageType("TEXT")
                 .sentAt(LocalDateTime.now())
+                .seq(seq)
                 .readBy(new ArrayList<>())
                 .build());
+        chatInboxService.onMessageSent(roomId, saved.getContent(), saved.getSentAt());
 
-        // 2) DB 참여자 unread 증가
-        List<ChatParticipant> participants = participantRepository.findByChatRoomId(roomId);
-        for (ChatParticipant p : participants) {
-            if (!p.getUserId().equals(senderId)) {
-                p.increaseUnreadCount();
-                participantRepository.save(p);
-            }
-        }
-
-        // 3) Redis: seq 증가 + 수신자(들) unread 증가
-        // String seqKey = "room:" + roomId + ":seq";
-        // Long seq = srt.opsForValue().increment(seqKey);
-        // if (seq == null) seq = 0L;
-
-        // for (ChatParticipant p : participants) {
-        //     if (!p.getUserId().equals(senderId)) {
-        //         String unreadKey = "room:" + roomId + ":unread:" + p.getUserId();
-        //         srt.opsForValue().increment(unreadKey);
-        //     }
-        // }
-
-        // 4) Redis Pub/Sub (현재 WsSendMessage 구조)
+        // 3) Redis Pub/Sub (현재 WsSendMessage 구조)
         // WsSendMessage evt = WsSendMessage.builder()
         //         .roomId(roomId)
         //         .senderId(senderId)
@@ -177,14 +165,31 @@ public class ChatMessageService {
                 .toList();
     }
 
+    /** 특정 순번 이후 메시지 (순번 오름차순) - 클라이언트가 순번 누락을 감지했을 때 보충 */
+    @Transactional(readOnly = true)
+    public List<ChatMessageResponse> getMessagesAfter(Long roomId, long afterSeq, int size, Long userId) {
+        // 방 참여자인지 확인
+        if (!isParticipant(roomId, userId)) {
+            throw new IllegalArgumentException("You are not a participant of this room");
+        }
+
+        return messageRepository.findByRoomIdAndSeqGreaterThanOrderBySeqAsc(
+                        roomId.toString(), afterSeq, PageRequest.of(0, size))
+                .stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
     // =========================
     // 읽음 처리
     // =========================
     /**
      * 읽음 처리:
-     * - 내 participant.lastReadAt 갱신 + unreadCount = 0 (DB)
-     * - Mongo: 내가 아닌 발신자의 upTo 이전 메시지 is_read=true
-     * - Redis: lastReadSeq가 없다(엔티티에 seq 필드가 없으므로), 캐시 카운트만 0으로 리셋
+     * - 읽은 순번: upToSeq, 없으면 upTo 시각까지 보낸 메시지의 마지막 순번 (Mongo 조회)
+     *   → 안읽음 수와 read_by가 같은 범위를 가리킴 (시각만 보내는 기존 클라이언트 포함)
+     * - 내 participant.lastReadSeq + lastReadAt 갱신 (DB)
+     * - Mongo: 내가 아닌 발신자의 그 순번·upTo 이전 메시지 read_by에 추가 (updateMulti 한 번)
+     * - Redis: 남은 안읽음 수(방 lastSeq - lastReadSeq)로 갱신
      */
     @Transactional
     public void markAsRead(Long roomId, ChatMessageMarkReadRequest req, Long userId) throws DataAccessException {
@@ -193,31 +198,30 @@ public class ChatMessageService {
             throw new IllegalArgumentException("You are not a participant of this room");
         }
         
-        // 1) 내 참여자 정보 갱신 (DB)
-        ChatParticipant me = participantRepository.findFirstByChatRoomIdAndUserId(roomId, req.getUserId());
-        if (me == null) {
+        // 1) 내 lastReadSeq 이동 (DB, Redis는 커밋 이후 남은 안읽음 수로)
+        LocalDateTime upTo = req.getUpTo() != null ? req.getUpTo() : LocalDateTime.now();
+        long upToSeq = req.getUpToSeq() != null ? req.getUpToSeq() : lastSeqSentUpTo(roomId, upTo);
+        Integer remaining = chatUnreadService.markRead(roomId, req.getUserId(), upToSeq, upTo);
+        if (remaining == null) {
             throw new IllegalArgumentException("Participant not found in room: " + roomId + ", user: " + req.getUserId());
         }
-        me.updateLastReadAt(req.getUpTo() != null ? req.getUpTo() : LocalDateTime.now());
-        me.resetUnreadCount();
-        participantRepository.save(me);
 
-        // 3) Mongo 벌크 업데이트 (내가 보낸 메시지 제외 + upTo 이전)
+        // 2) Mongo 벌크 업데이트 (내가 보낸 메시지 제외 + upTo 이전 + 아직 안 읽은 것만)
+        //    updateMulti 한 번 → 서버에서 $addToSet, 문서를 읽어 오지 않음 (room_sentAt_idx 범위)
+        String reader = req.getUserId().toString();
         Query q = new Query()
                 .addCriteria(Criteria.where("room_id").is(roomId.toString()))
-                .addCriteria(Criteria.where("sender_id").ne(req.getUserId().toString()))
-                .addCriteria(Criteria.where("sent_at").lte(req.getUpTo() != null ? req.getUpTo() : LocalDateTime.now()));
-        
-        // 읽음 처리: readBy 배열에 사용자 ID 추가
-        List<ChatMessage> unreadMessages = mongoTemplate.find(q, ChatMessage.class);
-        for (ChatMessage message : unreadMessages) {
-            message.markAsRead(req.getUserId().toString());
-            messageRepository.save(message);
-        }
+                .addCriteria(Criteria.where("sent_at").lte(upTo))
+                .addCriteria(Criteria.where("sender_id").ne(reader))
+                .addCriteria(Criteria.where("read_by").ne(reader))
+                // 읽은 순번 이후 메시지는 제외 (순번 없는 이전 메시지는 시각 조건만)
+                .addCriteria(Criteria.where("seq").not().gt(upToSeq));
 
-        // 4) Redis 캐시 안읽음 카운트 0으로 재설정
-        // String unreadKey = "room:" + roomId + ":unread:" + req.getUserId();
-        // srt.opsForValue().set(unreadKey, "0");
+        long started = System.nanoTime();
+        UpdateResult result = mongoTemplate.updateMulti(q, new Update().addToSet("read_by", reader), ChatMessage.class);
+        log.debug("읽음 처리: roomId={}, userId={}, matched={}, modified={}, {}ms",
+                roomId, reader, result.getMatchedCount(), result.getModifiedCount(),
+                (System.nanoTime() - started) / 1_000_000);
 
         // (선택) 읽음 이벤트 Pub/Sub (현재 WsSendMessage 구조엔 READ 타입이 없으니 생략/추가 가능)
         // Map<String, Object> readEvt = Map.of("type","READ_RECEIPT","roomId",roomId,"userId",req.getUserId(),"readAt",Instant.now().toString());
@@ -236,6 +240,7 @@ public class ChatMessageService {
                 .id(m.getId() != null ? m.getId().toHexString() : null)
                 .roomId(chatRoomId)        // roomId 필드 설정
                 .chatRoomId(chatRoomId)    // 기존 필드 (하위 호환성)
+                .seq(m.getSeq())
                 .senderId(senderId)
                 .message(m.getContent())
                 .sentAt(m.getSentAt())
@@ -251,6 +256,22 @@ public class ChatMessageService {
         }
     }
     
+    /**
+     * upTo 시각까지 보낸 메시지 중 마지막 순번 (순번 있는 메시지가 없으면 0 → lastReadSeq 그대로)
+     * - room_seq_idx를 seq 내림차순으로 훑다가 sent_at 조건에 맞는 첫 문서에서 멈춤 (보통 최근 몇 건)
+     */
+    private long lastSeqSentUpTo(Long roomId, LocalDateTime upTo) {
+        Query q = new Query()
+                .addCriteria(Criteria.where("room_id").is(roomId.toString()))
+                .addCriteria(Criteria.where("seq").ne(null))
+                .addCriteria(Criteria.where("sent_at").lte(upTo))
+                .with(Sort.by(Sort.Direction.DESC, "seq"))
+                .limit(1);
+        q.fields().include("seq");
+        ChatMessage last = mongoTemplate.findOne(q, ChatMessage.class);
+        return last != null && last.getSeq() != null ? last.getSeq() : 0L;
+    }
+
     /** 참여자 확인 */
     private boolean isParticipant(Long roomId, Long userId) {
         return participantRepository.findFirstByChatRoomIdAndUserId(roomId, userId) != null;
@@ -11,7 +11,7 @@ import com.momnect.chatservice.command.dto.room.ChatRoomResponse;
 import com.momnect.chatservice.command.dto.room.ChatRoomSummaryResponse;
 import com.momnect.chatservice.command.entity.ChatParticipant;
 import com.momnect.chatservice.command.entity.ChatRoom;
-import com.momnect.chatservice.command.mongo.ChatMessage;
+import com.momnect.chatservice.command.mongo.RoomLastMessage;
 import com.momnect.chatservice.command.repository.ChatMessageRepository;
 import com.momnect.chatservice.command.repository.ChatParticipantRepository;
 import com.momnect.chatservice.command.repository.ChatRoomRepository;
@@ -25,6 +25,9 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -36,6 +39,7 @@ public class ChatRoomService {
     private final ChatMessageRepository messageRepository;
     private final UserServiceClient userServiceClient;
     private final ProductClient productClient;
+    private final ChatInboxService chatInboxService;
 
     /** 방 생성(상품별 1:1 방 중복 방지) */
     @Transactional
@@ -62,6 +66,7 @@ public class ChatRoomService {
         if (existed != null) {
             log.info("기존 채팅방 발견: roomId={}, buyerId={}, sellerId={}, productId={}", 
                     existed.getId(), buyerId, sellerId, req.getProductId());
+            chatInboxService.ensureRoomEntries(existed, productInfos.get(0));
             return toResponse(existed, false);
         }
 
@@ -88,6 +93,7 @@ public class ChatRoomService {
                     .findFirstByBuyerIdAndSellerIdAndProductId(buyerId, sellerId, req.getProductId());
             if (existingRoom != null) {
                 log.info("중복 생성 후 기존 채팅방 반환: roomId={}", existingRoom.getId());
+                chatInboxService.ensureRoomEntries(existingRoom, productInfos.get(0));
                 return toResponse(existingRoom, false);
             } else {
                 // 예상치 못한 상황
@@ -116,6 +122,7 @@ public class ChatRoomService {
             log.warn("참여자 중복 생성 시도 감지: roomId={}, buyerId={}, sellerId={}", 
                     saved.getId(), buyerId, sellerId);
         }
+        chatInboxService.onRoomCreated(saved, productInfos.get(0));
 
         return toResponse(saved, true);
         } catch (Exception e) {
@@ -149,6 +156,7 @@ public class ChatRoomService {
             if (existed != null) {
                 log.info("기존 채팅방 발견: roomId={}, buyerId={}, sellerId={}, productId={}", 
                         existed.getId(), buyerId, sellerId, productId);
+                chatInboxService.ensureRoomEntries(existed, productInfos.get(0));
                 return existed.getId();
             }
 
@@ -178,6 +186,7 @@ public class ChatRoomService {
                     .unreadCount(0)
                     .lastReadAt(LocalDateTime.now())
                     .build());
+            chatInboxService.onRoomCreated(saved, productInfos.get(0));
 
             return saved.getId();
         } catch (Exception e) {
@@ -186,120 +195,95 @@ public class ChatRoomService {
         }
     }
 
-    /** 내가 참여한 방 목록(최근 메시지 기준 정렬) */
-    @Transactional(readOnly = true)
-    public List<ChatRoomSummaryResponse> listRoomsForUser(Long userId) {
+    /**
+     * 내가 참여한 방 목록(최근 메시지 기준 정렬, 페이지 단위)
+     * - chat_inbox 읽기 모델에서 인덱스 범위 읽기 한 번
+     * - 아직 재구성하지 않은 사용자는 첫 조회 때 원본 데이터로 전체 방을 한 번 채운다
+     *   (새 방이 먼저 생겨 inbox가 비어 있지 않아도 이전 방이 빠지지 않도록 사용자별 완료 표시로 판단)
+     * - 트랜잭션 없음: Mongo 쓰기와 Feign 호출 동안 DB 커넥션을 잡지 않도록 조회마다 각자 짧게 사용
+     */
+    public List<ChatRoomSummaryResponse> listRoomsForUser(Long userId, int page, int size) {
+        if (!chatInboxService.isBackfilled(userId)) {
+            List<ChatRoomSummaryResponse> assembled = assembleRoomSummaries(userId);
+            log.info("chat_inbox 재구성: userId={}, rooms={}", userId, assembled.size());
+            chatInboxService.backfill(userId, assembled);
+        }
+        return chatInboxService.findPage(userId, page, size);
+    }
+
+    /**
+     * 원본 데이터로 방 목록 구성 (최근 메시지 기준 정렬)
+     * - 방 조회 1회 + 마지막 메시지 집계 1회 + 상품 요약 1회 + 상대방 정보 1회 (방 개수와 무관)
+     * - 상품/사용자 조회가 실패해도 기본값으로 채워 목록은 그대로 반환
+     */
+    private List<ChatRoomSummaryResponse> assembleRoomSummaries(Long userId) {
         List<ChatParticipant> parts = participantRepository.findByUserId(userId);
+        if (parts.isEmpty()) return List.of();
+
+        List<Long> roomIds = parts.stream().map(ChatParticipant::getChatRoomId).distinct().toList();
+
+        Map<Long, ChatRoom> rooms = chatRoomRepository.findAllById(roomIds).stream()
+                .collect(Collectors.toMap(ChatRoom::getId, Function.identity()));
+
+        Map<String, RoomLastMessage> lastMessages = messageRepository
+                .findLastMessagesByRoomIds(roomIds.stream().map(String::valueOf).toList()).stream()
+                .collect(Collectors.toMap(RoomLastMessage::getRoomId, Function.identity()));
+
+        Map<Long, ProductSummaryResponse> products = fetchProducts(
+                rooms.values().stream().map(ChatRoom::getProductId).distinct().toList(), userId);
+
+        Map<Long, UserBasicInfoResponse> users = fetchUsers(
+                rooms.values().stream().map(r -> otherUserIdOf(r, userId)).distinct().toList());
 
         return parts.stream()
                 .map(p -> {
                     Long roomId = p.getChatRoomId();
-                    ChatMessage last = messageRepository.findTopByRoomIdOrderBySentAtDesc(roomId.toString());
+                    RoomLastMessage last = lastMessages.get(roomId.toString());
 
-                    // ChatRoom 정보 가져오기
-                    ChatRoom room = chatRoomRepository.findById(roomId).orElse(null);
+                    ChatRoom room = rooms.get(roomId);
                     if (room == null) {
                         return ChatRoomSummaryResponse.builder()
                                 .roomId(roomId)
                                 .lastMessage(last != null ? last.getContent() : null)
                                 .lastSentAt(last != null ? last.getSentAt() : null)
-                                .unreadCount(p.getUnreadCount())
+                                .unreadCount(0)
                                 .build();
                     }
 
-                                         try {
-                         // Product Service에서 상품 정보 가져오기
-                         ApiResponse<List<ProductSummaryResponse>> productResponse = productClient.getProductSummaries(List.of(room.getProductId()), userId);
-
-                         // 상대방 사용자 ID 찾기
-                         Long otherUserId = room.getBuyerId().equals(userId) ? room.getSellerId() : room.getBuyerId();
-
-                         // User Service에서 상대방 정보 가져오기
-                         ApiResponse<UserBasicInfoResponse> userResponse = userServiceClient.getUserBasicInfo(otherUserId);
-
-                         if (productResponse.isSuccess() && productResponse.getData() != null && !productResponse.getData().isEmpty()) {
-                             ProductSummaryResponse productInfo = productResponse.getData().get(0);
-
-                             ChatRoomSummaryResponse.ChatRoomSummaryResponseBuilder builder = ChatRoomSummaryResponse.builder()
-                                     .roomId(roomId)
-                                     .productId(room.getProductId())
-                                     .productName(productInfo.getName())
-                                     .productPrice(productInfo.getPrice())
-                                     .productThumbnailUrl(productInfo.getThumbnailUrl())
-                                     .tradeStatus(productInfo.getTradeStatus())
-                                     .buyerId(room.getBuyerId())
-                                     .sellerId(room.getSellerId())
-                                     .lastMessage(last != null ? last.getContent() : null)
-                                     .lastSentAt(last != null ? last.getSentAt() : null)
-                                     .unreadCount(p.getUnreadCount())
-                                     .otherUserId(otherUserId);
-
-                             // 상대방 사용자 정보 추가
-                             if (userResponse.isSuccess() && userResponse.getData() != null) {
-                                 UserBasicInfoResponse userInfo = userResponse.getData();
-                                 builder.otherUserNickname(userInfo.getNickname())
-                                        .otherUserProfileImageUrl(userInfo.getProfileImageUrl());
-                             } else {
-                                 builder.otherUserNickname("상대방")
-                                        .otherUserProfileImageUrl(null);
-                             }
-
-                             return builder.build();
-                         }
-                     } catch (Exception e) {
-                         log.error("상품/사용자 정보 조회 실패 - roomId: {}, productId: {}", roomId, room.getProductId(), e);
-                     }
-
-                                         // 상품 정보 조회 실패 시에도 상대방 사용자 정보는 가져오기
-                     try {
-                         Long otherUserId = room.getBuyerId().equals(userId) ? room.getSellerId() : room.getBuyerId();
-                         ApiResponse<UserBasicInfoResponse> userResponse = userServiceClient.getUserBasicInfo(otherUserId);
-
-                         ChatRoomSummaryResponse.ChatRoomSummaryResponseBuilder builder = ChatRoomSummaryResponse.builder()
-                                 .roomId(roomId)
-                                 .productId(room.getProductId())
-                                 .productName("상품명 없음")
-                                 .productPrice(0)
-                                 .productThumbnailUrl(null)
-                                 .tradeStatus("UNKNOWN")
-                                 .buyerId(room.getBuyerId())
-                                 .sellerId(room.getSellerId())
-                                 .lastMessage(last != null ? last.getContent() : null)
-                                 .lastSentAt(last != null ? last.getSentAt() : null)
-                                 .unreadCount(p.getUnreadCount())
-                                 .otherUserId(otherUserId);
-
-                         if (userResponse.isSuccess() && userResponse.getData() != null) {
-                             UserBasicInfoResponse userInfo = userResponse.getData();
-                             builder.otherUserNickname(userInfo.getNickname())
-                                    .otherUserProfileImageUrl(userInfo.getProfileImageUrl());
-                         } else {
-                             builder.otherUserNickname("상대방")
-                                    .otherUserProfileImageUrl(null);
-                         }
-
-                         return builder.build();
-                     } catch (Exception e) {
-                         log.error("사용자 정보 조회 실패 - roomId: {}, otherUserId: {}", roomId, room.getBuyerId().equals(userId) ? room.getSellerId() : room.getBuyerId(), e);
-
-                         // 모든 정보 조회 실패 시 기본값으로 반환
-                         return ChatRoomSummaryResponse.builder()
-                                 .roomId(roomId)
-                                 .productId(room.getProductId())
-                                 .productName("상품명 없음")
-                                 .productPrice(0)
-                                 .productThumbnailUrl(null)
-                                 .tradeStatus("UNKNOWN")
-                                 .buyerId(room.getBuyerId())
-                                 .sellerId(room.getSellerId())
-                                 .lastMessage(last != null ? last.getContent() : null)
-                                 .lastSentAt(last != null ? last.getSentAt() : null)
-                                 .unreadCount(p.getUnreadCount())
-                                 .otherUserId(room.getBuyerId().equals(userId) ? room.getSellerId() : room.getBuyerId())
-                                 .otherUserNickname("상대방")
-                                 .otherUserProfileImageUrl(null)
-                                 .build();
-                     }
+                    Long otherUserId = otherUserIdOf(room, userId);
+                    ChatRoomSummaryResponse.ChatRoomSummaryResponseBuilder builder = ChatRoomSummaryResponse.builder()
+                            .roomId(roomId)
+                            .productId(room.getProductId())
+                            .buyerId(room.getBuyerId())
+                            .sellerId(room.getSellerId())
+                            .lastMessage(last != null ? last.getContent() : null)
+                            .lastSentAt(last != null ? last.getSentAt() : null)
+                            .unreadCount(p.unreadFor(room.getLastSeq()))
+                            .otherUserId(otherUserId);
+
+                    ProductSummaryResponse productInfo = products.get(room.getProductId());
+                    if (productInfo != null) {
+                        builder.productName(productInfo.getName())
+                               .productPrice(productInfo.getPrice())
+                               .productThumbnailUrl(productInfo.getThumbnailUrl())
+                               .tradeStatus(productInfo.getTradeStatus());
+                    } else {
+                        builder.productName("상품명 없음")
+                               .productPrice(0)
+                               .productThumbnailUrl(null)
+                               .tradeStatus("UNKNOWN");
+                    }
+
+                    UserBasicInfoResponse userInfo = users.get(otherUserId);
+                    if (userInfo != null) {
+                        builder.otherUserNickname(userInfo.getNickname())
+                               .otherUserProfileImageUrl(userInfo.getProfileImageUrl());
+                    } else {
+                        builder.otherUserNickname("상대방")
+                               .otherUserProfileImageUrl(null);
+                    }
+
+                    return builder.build();
                 })
                 .sorted(Comparator.comparing(
                         ChatRoomSummaryResponse::getLastSentAt,
@@ -308,6 +292,40 @@ public class ChatRoomService {
                 .toList();
     }
 
+    /** 상품 요약 일괄 조회 (실패 시 빈 맵 → 호출 측 기본값) */
+    private Map<Long, ProductSummaryResponse> fetchProducts(List<Long> productIds, Long userId) {
+        if (productIds.isEmpty()) return Map.of();
+        try {
+            ApiResponse<List<ProductSummaryResponse>> response = productClient.getProductSummaries(productIds, userId);
+            if (response != null && response.isSuccess() && response.getData() != null) {
+                return response.getData().stream()
+                        .collect(Collectors.toMap(ProductSummaryResponse::getId, Function.identity(), (a, b) -> a));
+            }
+        } catch (Exception e) {
+            log.error("상품 정보 일괄 조회 실패 - productIds: {}", productIds, e);
+        }
+        return Map.of();
+    }
+
+    /** 사용자 기본 정보 일괄 조회 (실패 시 빈 맵 → 호출 측 기본값) */
+    private Map<Long, UserBasicInfoResponse> fetchUsers(List<Long> userIds) {
+        if (userIds.isEmpty()) return Map.of();
+        try {
+            ApiResponse<List<UserBasicInfoResponse>> response = userServiceClient.getUserBasicInfos(userIds);
+            if (response != null && response.isSuccess() && response.getData() != null) {
+                return response.getData().stream()
+                        .collect(Collectors.toMap(UserBasicInfoResponse::getId, Function.identity(), (a, b) -> a));
+            }
+        } catch (Exception e) {
+            log.error("사용자 정보 일괄 조회 실패 - userIds: {}", userIds, e);
+        }
+        return Map.of();
+    }
+
+    private static Long otherUserIdOf(ChatRoom room, Long userId) {
+        return room.getBuyerId().equals(userId) ? room.getSellerId() : room.getBuyerId();
+    }
+
     /** 방 참여자 목록 */
     @Transactional(readOnly = true)
     public List<ChatRoomParticipantResponse> getParticipants(Long roomId, Long userId) {
@@ -316,6 +334,9 @@ public class ChatRoomService {
             throw new IllegalArgumentException("You are not a participant of this room");
         }
         
+        Long roomSeq = chatRoomRepository.findLastSeq(roomId);
+        long lastSeq = roomSeq != null ? roomSeq : 0L;
+
         return participantRepository.findByChatRoomId(roomId).stream()
                 .map(p -> {
                     try {
@@ -329,7 +350,7 @@ public class ChatRoomService {
                                     .id(p.getId())
                                     .userId(p.getUserId())
                                     .nickname(userInfo.getNickname())
-                                    .unreadCount(p.getUnreadCount())
+                                    .unreadCount(p.unreadFor(lastSeq))
                                     .lastReadAt(p.getLastReadAt())
                                     .build();
                         } else {
@@ -341,7 +362,7 @@ public class ChatRoomService {
                                 .id(p.getId())
                                 .userId(p.getUserId())
                                 .nickname("사용자")
-                                .unreadCount(p.getUnreadCount())
+                                .unreadCount(p.unreadFor(lastSeq))
                                 .lastReadAt(p.getLastReadAt())
                                 .build();
                     }
@@ -357,6 +378,18 @@ public class ChatRoomService {
         return toResponse(room, false);
     }
 
+    /**
+     * 메시지 순번 발급 (호출 측 트랜잭션 안에서 방 행을 잠그므로 같은 방의 전송은 커밋 순서대로 순번이 붙는다)
+     * - 호출 측은 순번 트랜잭션을 커밋한 뒤에 메시지를 저장한다 (ChatMessageService#allocateSeq)
+     */
+    @Transactional
+    public long nextSeq(Long roomId) {
+        if (chatRoomRepository.incrementSeq(roomId) == 0) {
+            throw new IllegalArgumentException("ChatRoom not found: " + roomId);
+        }
+        return chatRoomRepository.lastInsertId();
+    }
+
     /** 참여자 확인 */
     @Transactional(readOnly = true)
     public boolean isParticipant(Long roomId, Long userId) {
@@ -3,12 +3,14 @@ package com.momnect.chatservice.command.service;
 import com.momnect.chatservice.command.dto.message.RoomUnreadSummaryResponse;
 import com.momnect.chatservice.command.dto.message.UnreadCountResponse;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ChatUnreadService {
     UnreadCountResponse getUnreadCount(Long roomId, Long userId);
     RoomUnreadSummaryResponse getMyUnreadSummary(Long userId);
 
-    void bumpUnreadForOpponents(Long roomId, Long senderId);   // 상대방들 unread +1
+    void bumpUnreadForOpponents(Long roomId, Long senderId, long seq); // 상대방들 unread +1 (발신자는 seq까지 읽음)
+    Integer markRead(Long roomId, Long userId, long upToSeq, LocalDateTime readAt); // upToSeq(방 마지막 순번 이하로 자름)까지 읽음 → 남은 안읽음 (참여자 아니면 null)
     List<Long> getOpponentsInRoom(Long roomId, Long senderId); // sender 제외한 유저ID 목록
 }
@@ -4,37 +4,77 @@ package com.momnect.chatservice.command.service;
 import com.momnect.chatservice.command.dto.message.RoomUnreadSummaryResponse;
 import com.momnect.chatservice.command.dto.message.UnreadCountResponse;
 import com.momnect.chatservice.command.entity.ChatParticipant;
-import com.momnect.chatservice.command.mongo.ChatMessage;
 import com.momnect.chatservice.command.repository.ChatParticipantRepository;
+import com.momnect.chatservice.command.repository.ChatRoomRepository;
+import com.momnect.chatservice.common.AfterCommit;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.mongodb.core.MongoTemplate;
-import org.springframework.data.mongodb.core.query.Criteria;
-import org.springframework.data.mongodb.core.query.Query;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
-import java.time.ZoneId;
-import java.util.LinkedHashMap;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
+/**
+ * 안읽은 메시지 수
+ * - 메시지마다 방 단위 순번(seq) 발급 → 안읽음 = 방 lastSeq - 참여자 lastReadSeq (메시지 수를 세지 않음)
+ *   전송 시 DB 쓰기는 순번 발급 + 발신자 lastReadSeq 이동뿐 (상대방 행은 건드리지 않음)
+ * - Redis = 조회 캐시 (TTL). 커밋 이후 반영하고, 반영 실패 시 키를 지워 다음 조회에서 DB로 다시 채움
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ChatUnreadServiceImpl implements ChatUnreadService {
 
-    /** REDIS = Source of Truth */
-    private final StringRedisTemplate srt;
+    // 캐시가 어긋나도 이 시간 안에 DB 값으로 돌아온다
+    private static final Duration CACHE_TTL = Duration.ofMinutes(10);
+
+    // 상대방 키들을 한 번의 호출로 +1, 키가 있을 때만 (없으면 다음 조회에서 DB로 채움 → 0에서 시작하는 잘못된 값 방지)
+    private static final RedisScript<Long> INCR_IF_EXISTS = new DefaultRedisScript<>(
+            "local n = 0 " +
+            "for _, key in ipairs(KEYS) do " +
+            "  if redis.call('EXISTS', key) == 1 then redis.call('INCR', key) n = n + 1 end " +
+            "end " +
+            "return n",
+            Long.class);
 
-    /** Fallback 계산용 */
+    private final StringRedisTemplate srt;
     private final ChatParticipantRepository participantRepository;
-    private final MongoTemplate mongoTemplate;
+    private final ChatRoomRepository chatRoomRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * seq 도입 이전 안읽음 이전 (요청을 받기 전, 빈 초기화 시점)
+     * - 남은 unread_count를 lastReadSeq에서 빼고 0으로 비움 → 이미 옮긴 행은 다시 적용되지 않음
+     * - 방 순번은 건드리지 않으므로 이미 메시지가 오간 방도 (새 안읽음 + 이전 안읽음)으로 맞게 이어짐
+     * - 실패해도 다음 기동 때 남은 행만 다시 옮긴다
+     */
+    @PostConstruct
+    void migrateUnreadCounts() {
+        try {
+            Integer migrated = new TransactionTemplate(transactionManager)
+                    .execute(status -> participantRepository.migrateLegacyUnreadCounts());
+            if (migrated != null && migrated > 0) {
+                log.info("안읽음 순번 이전 완료: 참여자 {}건", migrated);
+            }
+        } catch (Exception e) {
+            log.warn("안읽음 순번 이전 실패 (다음 기동 때 재시도)", e);
+        }
+    }
 
     // ======================================================
-    // 조회 계열: Redis 우선 → 미스 시 Mongo로 재계산 후 Redis 세팅
+    // 조회 계열: Redis 우선 → 미스 시 DB 순번 차이로 Redis 세팅
     // ======================================================
     @Override
     @Transactional(readOnly = true)
@@ -42,7 +82,12 @@ public class ChatUnreadServiceImpl implements ChatUnreadService {
         String key = unreadKey(roomId, userId);
 
         // 1) Redis 우선
-        String cached = srt.opsForValue().get(key);
+        String cached = null;
+        try {
+            cached = srt.opsForValue().get(key);
+        } catch (Exception e) {
+            log.warn("안읽음 캐시 조회 실패 - key: {}", key, e);
+        }
         if (cached != null) {
             return UnreadCountResponse.builder()
                     .roomId(roomId)
@@ -51,72 +96,84 @@ public class ChatUnreadServiceImpl implements ChatUnreadService {
                     .build();
         }
 
-        // 2) Redis 미스 → Mongo로 재계산
-        int computed = computeUnreadFromMongo(roomId, userId);
+        // 2) Redis 미스 → 방 lastSeq - 내 lastReadSeq
+        int count = loadUnread(roomId, userId);
 
         // 3) Redis 채움
-        srt.opsForValue().set(key, String.valueOf(computed));
+        cache(key, count);
 
         return UnreadCountResponse.builder()
                 .roomId(roomId)
                 .userId(userId)
-                .unreadCount(computed)
+                .unreadCount(count)
                 .build();
     }
 
+    /** 순번 차이를 한 번에 조회 (방마다 Redis 조회 없음) */
     @Override
     @Transactional(readOnly = true)
     public RoomUnreadSummaryResponse getMyUnreadSummary(Long userId) {
-        List<ChatParticipant> parts = participantRepository.findByUserId(userId);
-
-        int total = 0;
-        Map<Long, Integer> perRoom = new LinkedHashMap<>();
-
-        for (ChatParticipant p : parts) {
-            Long roomId = p.getChatRoomId();
-            String cached = srt.opsForValue().get(unreadKey(roomId, userId));
-
-            int count;
-            if (cached != null) {
-                count = safeParseInt(cached, 0);
-            } else {
-                count = computeUnreadFromMongo(roomId, userId);
-                srt.opsForValue().set(unreadKey(roomId, userId), String.valueOf(count));
-            }
-
-            perRoom.put(roomId, count);
-            total += count;
-        }
+        List<RoomUnreadSummaryResponse.RoomUnread> rooms = participantRepository.findUnreadByUserId(userId).stream()
+                .map(row -> RoomUnreadSummaryResponse.RoomUnread.builder()
+                        .roomId((Long) row[0])
+                        .unreadCount((int) Math.max(0, ((Number) row[1]).longValue()))
+                        .build())
+                .collect(Collectors.toList());
 
         return RoomUnreadSummaryResponse.builder()
                 .userId(userId)
-                .totalUnread(total)
-                .rooms(
-                        perRoom.entrySet().stream()
-                                .map(e -> RoomUnreadSummaryResponse.RoomUnread.builder()
-                                        .roomId(e.getKey())
-                                        .unreadCount(e.getValue())
-                                        .build())
-                                .collect(Collectors.toList())
-                )
+                .totalUnread(rooms.stream().mapToInt(RoomUnreadSummaryResponse.RoomUnread::getUnreadCount).sum())
+                .rooms(rooms)
                 .generatedAt(Instant.now())
                 .build();
     }
 
     // ======================================================
-    // 증가 계열: Redis만 수정 (DB unreadCount는 건드리지 않음)
+    // 전송: 발신자 lastReadSeq = seq (상대방은 방 lastSeq 증가로 +1) → 커밋 이후 Redis 반영
     // ======================================================
     @Override
     @Transactional
-    public void bumpUnreadForOpponents(Long roomId, Long senderId) {
-        // 발신자 제외
-        participantRepository.findByChatRoomId(roomId).forEach(p -> {
-            if (!p.getUserId().equals(senderId)) {
-                srt.opsForValue().increment(unreadKey(roomId, p.getUserId()));
+    public void bumpUnreadForOpponents(Long roomId, Long senderId, long seq) {
+        participantRepository.advanceLastReadSeq(roomId, senderId, seq, LocalDateTime.now());
+
+        AfterCommit.run(() -> {
+            List<String> keys = getOpponentsInRoom(roomId, senderId).stream()
+                    .map(userId -> unreadKey(roomId, userId))
+                    .toList();
+            try {
+                if (!keys.isEmpty()) {
+                    srt.execute(INCR_IF_EXISTS, keys);
+                }
+                srt.opsForValue().set(unreadKey(roomId, senderId), "0", CACHE_TTL);
+            } catch (Exception e) {
+                log.warn("안읽음 캐시 갱신 실패 → 캐시 삭제 - roomId: {}", roomId, e);
+                List<String> all = new ArrayList<>(keys);
+                all.add(unreadKey(roomId, senderId));
+                evict(all);
             }
         });
     }
 
+    // ======================================================
+    // 읽음 처리: lastReadSeq 이동 → 커밋 이후 Redis에 남은 안읽음 수
+    // ======================================================
+    @Override
+    @Transactional
+    @Nullable
+    public Integer markRead(Long roomId, Long userId, long upToSeq, LocalDateTime readAt) {
+        Long roomSeq = chatRoomRepository.findLastSeq(roomId);
+        if (roomSeq == null) return null;
+
+        // 읽은 범위는 호출자가 정한 순번까지만 (방 마지막 순번으로 채우면 read_by와 어긋남)
+        long target = Math.min(upToSeq, roomSeq);
+        if (participantRepository.advanceLastReadSeq(roomId, userId, target, readAt) == 0) return null;
+
+        int remaining = loadUnread(roomId, userId);
+        String key = unreadKey(roomId, userId);
+        AfterCommit.run(() -> cache(key, remaining));
+        return remaining;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<Long> getOpponentsInRoom(Long roomId, Long senderId) {
@@ -127,28 +184,6 @@ public class ChatUnreadServiceImpl implements ChatUnreadService {
                 .collect(Collectors.toList());
     }
 
-    // ======================================================
-    // 읽음 처리: Redis 0 세팅 + DB는 lastReadAt(그리고 혼란 방지 위해 unreadCount=0)
-    // ======================================================
-    @Transactional
-    public void markAsRead(Long roomId, Long userId, Long uptoSeq, LocalDateTime uptoTimeKstOrNull) {
-        // 1) Redis: unread 0
-        srt.opsForValue().set(unreadKey(roomId, userId), "0");
-
-        // 2) DB: lastReadAt 갱신 (KST → UTC Instant) + (선택) unreadCount 0
-        ChatParticipant me = participantRepository.findFirstByChatRoomIdAndUserId(roomId, userId);
-        if (me != null) {
-            LocalDateTime kst = (uptoTimeKstOrNull != null) ? uptoTimeKstOrNull : LocalDateTime.now();
-            me.updateLastReadAt(kst);
-            // DB 필드를 UI에서 참고하고 있다면 혼란 방지로 0으로 맞춤 (원치 않으면 제거)
-            me.resetUnreadCount();
-            participantRepository.save(me);
-        }
-
-        // Mongo 메시지 is_read=true로 마킹하는 로직은
-        // ChatMessageService.markAsRead(...) 에서 이미 처리하고 있으니 중복 방지
-    }
-
     // ======================================================
     // 내부 유틸
     // ======================================================
@@ -156,30 +191,26 @@ public class ChatUnreadServiceImpl implements ChatUnreadService {
         return "room:" + roomId + ":unread:" + userId;
     }
 
-    private int computeUnreadFromMongo(Long roomId, Long userId) {
-        // 기준 시각: 참가자의 lastReadAt (없으면 null)
-        ChatParticipant p = participantRepository.findFirstByChatRoomIdAndUserId(roomId, userId);
-
-        Criteria c = new Criteria().andOperator(
-                Criteria.where("chat_room_id").is(roomId),
-                Criteria.where("sender_info.user_id").ne(userId) // 상대가 보낸 것만
-        );
-
-        if (p != null && p.getLastReadAt() != null) {
-            Instant lastReadUtc = p.getLastReadAt().atZone(ZoneId.of("Asia/Seoul")).toInstant();
-            c = new Criteria().andOperator(
-                    Criteria.where("chat_room_id").is(roomId),
-                    Criteria.where("sender_info.user_id").ne(userId),
-                    Criteria.where("sent_at").gt(java.util.Date.from(lastReadUtc))
-            );
-        }
+    private int loadUnread(Long roomId, Long userId) {
+        Long unread = participantRepository.findUnread(roomId, userId);
+        return unread != null ? (int) Math.max(0, unread) : 0;
+    }
 
-        Query q = new Query(c);
-        // is_read=false 조건을 추가하고 싶으면 아래 주석 해제
-        // q.addCriteria(Criteria.where("is_read").is(false));
+    private void cache(String key, int count) {
+        try {
+            srt.opsForValue().set(key, String.valueOf(count), CACHE_TTL);
+        } catch (Exception e) {
+            log.warn("안읽음 캐시 저장 실패 → 캐시 삭제 - key: {}", key, e);
+            evict(List.of(key));
+        }
+    }
 
-        long cnt = mongoTemplate.count(q, ChatMessage.class);
-        return (int) Math.max(0, cnt);
+    private void evict(List<String> keys) {
+        try {
+            srt.delete(keys);
+        } catch (Exception e) {
+            log.warn("안읽음 캐시 삭제 실패 (TTL 만료 후 DB 값으로 복구) - keys: {}", keys, e);
+        }
     }
 
     private int safeParseInt(String s, int def) {
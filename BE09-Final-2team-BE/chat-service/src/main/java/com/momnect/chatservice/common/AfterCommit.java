@@ -0,0 +1,28 @@
+package com.momnect.chatservice.common;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 커밋 이후 실행
+ * - 트랜잭션 동기화가 활성화돼 있으면 커밋 이후에만 실행 (롤백 시 실행 안 함)
+ * - 트랜잭션 밖이면 바로 실행
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.momnect.chatservice.command.service;
+
+import com.momnect.chatservice.command.dto.message.ChatMessageMarkReadRequest;
+import com.momnect.chatservice.command.entity.ChatParticipant;
+import com.momnect.chatservice.command.mongo.ChatMessage;
+import com.momnect.chatservice.command.repository.ChatMessageRepository;
+import com.momnect.chatservice.command.repository.ChatParticipantRepository;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 읽음 처리 벤치마크: 문서별 find + save(이전 방식) vs updateMulti 한 번(markAsRead)
+ * - 실제 MongoDB가 필요해 CHAT_BENCH_MONGO_URI가 있을 때만 실행
+ *   예) CHAT_BENCH_MONGO_URI=mongodb://localhost:27017 gradle test --tests '*ChatMessageMarkReadBenchmarkTest'
+ * - 안읽은 메시지 수는 CHAT_BENCH_MESSAGES (기본 2000), 방식별로 매번 새로 채워 ROUNDS회 측정
+ */
+@EnabledIfEnvironmentVariable(named = "CHAT_BENCH_MONGO_URI", matches = ".+")
+class ChatMessageMarkReadBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ChatMessageMarkReadBenchmarkTest.class);
+
+    private static final int ROUNDS = 5;
+    private static final long ROOM_ID = 1L;
+    private static final String SENDER = "2";
+    private static final long READER_ID = 3L;
+
+    private final int messageCount = Integer.parseInt(
+            System.getenv().getOrDefault("CHAT_BENCH_MESSAGES", "2000"));
+
+    private MongoClient client;
+    private MongoTemplate mongoTemplate;
+    private ChatMessageService chatMessageService;
+
+    @BeforeEach
+    void setUp() {
+        client = MongoClients.create(System.getenv("CHAT_BENCH_MONGO_URI"));
+        mongoTemplate = new MongoTemplate(client, "chat_bench_" + new ObjectId().toHexString());
+
+        // 운영과 같은 인덱스 (room_sentAt_idx, room_seq_idx)
+        IndexOperations indexOps = mongoTemplate.indexOps(ChatMessage.class);
+        new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext())
+                .resolveIndexFor(ChatMessage.class)
+                .forEach(indexOps::ensureIndex);
+
+        ChatParticipantRepository participantRepository = mock(ChatParticipantRepository.class);
+        given(participantRepository.findFirstByChatRoomIdAndUserId(anyLong(), anyLong()))
+                .willReturn(ChatParticipant.builder().build());
+        ChatUnreadService chatUnreadService = mock(ChatUnreadService.class);
+        given(chatUnreadService.markRead(anyLong(), anyLong(), anyLong(), any())).willReturn(0);
+
+        chatMessageService = new ChatMessageService(
+                mock(ChatMessageRepository.class),
+                participantRepository,
+                mongoTemplate,
+                mock(ChatRoomService.class),
+                mock(ChatInboxService.class),
+                chatUnreadService,
+                mock(PlatformTransactionManager.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        mongoTemplate.getDb().drop();
+        client.close();
+    }
+
+    @Test
+    void 문서별_save와_updateMulti_비교() {
+        long[] perDocument = new long[ROUNDS];
+        long[] updateMulti = new long[ROUNDS];
+
+        for (int round = 0; round < ROUNDS; round++) {
+            LocalDateTime upTo = seed();
+            long started = System.nanoTime();
+            markAsReadPerDocument(upTo);
+            perDocument[round] = System.nanoTime() - started;
+            assertAllRead();
+
+            upTo = seed();
+            started = System.nanoTime();
+            chatMessageService.markAsRead(ROOM_ID, markReadRequest(upTo), READER_ID);
+            updateMulti[round] = System.nanoTime() - started;
+            assertAllRead();
+        }
+
+        log.info("읽음 처리 {}건 ({}회): 문서별 save median={}ms min={}ms / updateMulti median={}ms min={}ms",
+                messageCount, ROUNDS,
+                median(perDocument), min(perDocument), median(updateMulti), min(updateMulti));
+    }
+
+    /** 변경 전 markAsRead의 Mongo 처리 (조회 후 문서마다 save) */
+    private void markAsReadPerDocument(LocalDateTime upTo) {
+        String reader = String.valueOf(READER_ID);
+        Query q = new Query()
+                .addCriteria(Criteria.where("room_id").is(String.valueOf(ROOM_ID)))
+                .addCriteria(Criteria.where("sender_id").ne(reader))
+                .addCriteria(Criteria.where("sent_at").lte(upTo));
+        for (ChatMessage message : mongoTemplate.find(q, ChatMessage.class)) {
+            message.markAsRead(reader);
+            mongoTemplate.save(message);
+        }
+    }
+
+    /** 방 하나에 안읽은 메시지 messageCount건 */
+    private LocalDateTime seed() {
+        mongoTemplate.remove(new Query(), ChatMessage.class);
+
+        LocalDateTime base = LocalDateTime.now().minusDays(1);
+        List<ChatMessage> messages = new ArrayList<>(messageCount);
+        for (int i = 1; i <= messageCount; i++) {
+            messages.add(ChatMessage.builder()
+                    .id(new ObjectId())
+                    .roomId(String.valueOf(ROOM_ID))
+                    .senderId(SENDER)
+                    .content("메시지 " + i)
+                    .messageType("TEXT")
+                    .sentAt(base.plusSeconds(i))
+                    .seq((long) i)
+                    .readBy(new ArrayList<>())
+                    .build());
+        }
+        mongoTemplate.insertAll(messages);
+        return base.plusSeconds(messageCount);
+    }
+
+    private void assertAllRead() {
+        long read = mongoTemplate.count(new Query(Criteria.where("room_id").is(String.valueOf(ROOM_ID))
+                .and("read_by").is(String.valueOf(READER_ID))), ChatMessage.class);
+        assertThat(read).isEqualTo(messageCount);
+    }
+
+    private ChatMessageMarkReadRequest markReadRequest(LocalDateTime upTo) {
+        ChatMessageMarkReadRequest req = new ChatMessageMarkReadRequest();
+        req.setUserId(READER_ID);
+        req.setUpTo(upTo);
+        return req;
+    }
+
+    private static long median(long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2] / 1_000_000;
+    }
+
+    private static long min(long[] nanos) {
+        return Arrays.stream(nanos).min().orElse(0) / 1_000_000;
+    }
+}
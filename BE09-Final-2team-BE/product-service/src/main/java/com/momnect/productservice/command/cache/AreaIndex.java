@@ -0,0 +1,302 @@
+package com.momnect.productservice.command.cache;
+
+import com.momnect.productservice.command.dto.area.AreaDto;
+import com.momnect.productservice.command.entity.area.AreaLevel;
+import com.momnect.productservice.command.event.AreaDataChangedEvent;
+import com.momnect.productservice.command.repository.AreaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+
+/**
+ * 지역(tbl_area) 메모리 인덱스
+ * - 수천 건 규모의 정적 참조 데이터라 한 번에 읽어 불변 스냅샷으로 보관
+ * - id/code 조회, 풀네임(시도 시군구 읍면동)은 적재 시 미리 계산
+ * - 읍면동 검색: 글자 1개는 unigram, 2개 이상은 bigram 포스팅 교집합 후 contains 확인
+ * - 초성(ㄱ~ㅎ)이 섞인 검색어는 초성 문자열 인덱스로 검색 (예: "ㅇㅅ" → 역삼동)
+ * - 엑셀 적재 커밋 이후 AreaDataChangedEvent로 재적재
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AreaIndex {
+
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final int[] EMPTY_POSTINGS = new int[0];
+
+    private final AreaRepository areaRepository;
+
+    private volatile Snapshot snapshot;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reload();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAreaDataChanged(AreaDataChangedEvent event) {
+        log.info("지역 데이터 변경({}건) → 지역 인덱스 재적재", event.changedRows());
+        reload();
+    }
+
+    public synchronized void reload() {
+        long started = System.currentTimeMillis();
+        Snapshot built = Snapshot.build(areaRepository.findAllFlat());
+        snapshot = built;
+        log.info("지역 인덱스 적재 완료: {}건 (읍면동 {}건), {}ms",
+                built.byId.size(), built.emds.length, System.currentTimeMillis() - started);
+    }
+
+    public Optional<AreaEntry> get(Integer id) {
+        return Optional.ofNullable(current().byId.get(id));
+    }
+
+    public Optional<AreaEntry> getByCode(String code) {
+        return Optional.ofNullable(current().byCode.get(code));
+    }
+
+    /**
+     * 시도 → 시군구 → 읍면동 순의 조상 ID 경로 (자기 자신 포함, 없는 ID는 빈 목록)
+     */
+    public List<Integer> pathOf(Integer id) {
+        Snapshot s = current();
+        Deque<Integer> path = new ArrayDeque<>();
+        AreaEntry entry = s.byId.get(id);
+        while (entry != null && path.size() <= AreaLevel.values().length) {
+            path.addFirst(entry.id());
+            entry = entry.parentId() != null ? s.byId.get(entry.parentId()) : null;
+        }
+        return List.copyOf(path);
+    }
+
+    /**
+     * 지역 ID 목록 → AreaDto (없는 ID는 제외, 요청 순서 유지)
+     */
+    public List<AreaDto> getDtos(Collection<Integer> ids) {
+        Snapshot s = current();
+        List<AreaDto> result = new ArrayList<>(ids.size());
+        for (Integer id : ids) {
+            AreaEntry entry = s.byId.get(id);
+            if (entry != null) result.add(entry.dto());
+        }
+        return result;
+    }
+
+    /**
+     * 읍면동 이름 부분 검색 (초성 포함 가능)
+     */
+    public List<AreaDto> searchEmd(String query) {
+        if (query == null) return List.of();
+        String q = query.replaceAll("\\s+", "");
+        if (q.isEmpty()) return List.of();
+
+        Snapshot s = current();
+        boolean chosungMode = containsChosung(q);
+        String key = chosungMode ? toChosung(q) : q;
+
+        int[] candidates = chosungMode
+                ? s.chosungPostings.lookup(key)
+                : s.namePostings.lookup(key);
+
+        List<AreaDto> result = new ArrayList<>();
+        for (int idx : candidates) {
+            AreaEntry entry = s.emds[idx];
+            String target = chosungMode ? s.emdChosung[idx] : entry.name();
+            if (target.contains(key)) {
+                result.add(entry.dto());
+            }
+        }
+        return result;
+    }
+
+    private Snapshot current() {
+        Snapshot s = snapshot;
+        if (s == null) {
+            // 기동 직후 warm-up 이전 요청
+            synchronized (this) {
+                if (snapshot == null) reload();
+                s = snapshot;
+            }
+        }
+        return s;
+    }
+
+    static String toChosung(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= 0xAC00 && c <= 0xD7A3) {
+                sb.append(CHOSUNG[(c - 0xAC00) / 588]);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static boolean containsChosung(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= 'ㄱ' && c <= 'ㅎ') return true;
+        }
+        return false;
+    }
+
+    /**
+     * 지역 항목 (불변)
+     */
+    public record AreaEntry(Integer id, Integer parentId, String code, String name,
+                            AreaLevel level, String fullName, AreaDto dto) {
+    }
+
+    /**
+     * 적재 시점의 불변 스냅샷
+     */
+    private static final class Snapshot {
+        private final Map<Integer, AreaEntry> byId;
+        private final Map<String, AreaEntry> byCode;
+        private final AreaEntry[] emds;          // 읍면동 (id 오름차순)
+        private final String[] emdChosung;       // emds와 같은 순서의 초성 문자열
+        private final NgramPostings namePostings;
+        private final NgramPostings chosungPostings;
+
+        private Snapshot(Map<Integer, AreaEntry> byId, Map<String, AreaEntry> byCode, AreaEntry[] emds) {
+            this.byId = byId;
+            this.byCode = byCode;
+            this.emds = emds;
+            this.emdChosung = new String[emds.length];
+            String[] names = new String[emds.length];
+            for (int i = 0; i < emds.length; i++) {
+                names[i] = emds[i].name();
+                emdChosung[i] = toChosung(names[i]);
+            }
+            this.namePostings = NgramPostings.build(names);
+            this.chosungPostings = NgramPostings.build(emdChosung);
+        }
+
+        static Snapshot build(List<Object[]> rows) {
+            Map<Integer, Object[]> raw = new HashMap<>(rows.size() * 2);
+            for (Object[] r : rows) raw.put((Integer) r[0], r);
+
+            Map<Integer, AreaEntry> byId = new HashMap<>(rows.size() * 2);
+            Map<String, AreaEntry> byCode = new HashMap<>(rows.size() * 2);
+            List<AreaEntry> emds = new ArrayList<>();
+
+            for (Object[] r : rows) {
+                Integer id = (Integer) r[0];
+                String name = (String) r[3];
+                String fullName = buildFullName(raw, r);
+
+                AreaEntry entry = new AreaEntry(id, (Integer) r[1], (String) r[2], name, (AreaLevel) r[4], fullName,
+                        AreaDto.builder().id(id).emd(name).fullName(fullName).build());
+                byId.put(id, entry);
+                byCode.put(entry.code(), entry);
+                if (entry.level() == AreaLevel.EMD) emds.add(entry);
+            }
+
+            emds.sort(Comparator.comparing(AreaEntry::id));
+            return new Snapshot(Map.copyOf(byId), Map.copyOf(byCode), emds.toArray(new AreaEntry[0]));
+        }
+
+        // 부모부터 순서대로 (메모리 내 parentId 추적, 순환 방지)
+        private static String buildFullName(Map<Integer, Object[]> raw, Object[] row) {
+            Deque<String> parts = new ArrayDeque<>();
+            Object[] current = row;
+            int depth = 0;
+            while (current != null && depth++ < AreaLevel.values().length + 1) {
+                parts.addFirst((String) current[3]);
+                Integer parentId = (Integer) current[1];
+                current = parentId != null ? raw.get(parentId) : null;
+            }
+            return String.join(" ", parts);
+        }
+    }
+
+    /**
+     * 문자열 배열에 대한 unigram/bigram 포스팅 (정렬된 인덱스 배열)
+     */
+    private static final class NgramPostings {
+        private final Map<Character, int[]> unigrams;
+        private final Map<String, int[]> bigrams;
+
+        private NgramPostings(Map<Character, int[]> unigrams, Map<String, int[]> bigrams) {
+            this.unigrams = unigrams;
+            this.bigrams = bigrams;
+        }
+
+        static NgramPostings build(String[] texts) {
+            Map<Character, List<Integer>> uni = new HashMap<>();
+            Map<String, List<Integer>> bi = new HashMap<>();
+
+            for (int i = 0; i < texts.length; i++) {
+                String text = texts[i];
+                Set<Character> seenUni = new HashSet<>();
+                Set<String> seenBi = new HashSet<>();
+                for (int j = 0; j < text.length(); j++) {
+                    char c = text.charAt(j);
+                    if (seenUni.add(c)) uni.computeIfAbsent(c, k -> new ArrayList<>()).add(i);
+                    if (j + 1 < text.length()) {
+                        String gram = text.substring(j, j + 2);
+                        if (seenBi.add(gram)) bi.computeIfAbsent(gram, k -> new ArrayList<>()).add(i);
+                    }
+                }
+            }
+
+            Map<Character, int[]> uniArrays = new HashMap<>(uni.size() * 2);
+            uni.forEach((k, v) -> uniArrays.put(k, toArray(v)));
+            Map<String, int[]> biArrays = new HashMap<>(bi.size() * 2);
+            bi.forEach((k, v) -> biArrays.put(k, toArray(v)));
+            return new NgramPostings(uniArrays, biArrays);
+        }
+
+        /**
+         * 검색어의 모든 n-gram을 포함하는 후보 (contains 확인은 호출 측에서)
+         */
+        int[] lookup(String query) {
+            if (query.length() == 1) {
+                return unigrams.getOrDefault(query.charAt(0), EMPTY_POSTINGS);
+            }
+
+            int[] result = null;
+            for (int j = 0; j + 1 < query.length(); j++) {
+                int[] postings = bigrams.get(query.substring(j, j + 2));
+                if (postings == null) return EMPTY_POSTINGS;
+                result = result == null ? postings : intersect(result, postings);
+                if (result.length == 0) return EMPTY_POSTINGS;
+            }
+            return result;
+        }
+
+        private static int[] intersect(int[] a, int[] b) {
+            int[] out = new int[Math.min(a.length, b.length)];
+            int i = 0, j = 0, n = 0;
+            while (i < a.length && j < b.length) {
+                if (a[i] == b[j]) {
+                    out[n++] = a[i];
+                    i++;
+                    j++;
+                } else if (a[i] < b[j]) {
+                    i++;
+                } else {
+                    j++;
+                }
+            }
+            return Arrays.copyOf(out, n);
+        }
+
+        private static int[] toArray(List<Integer> list) {
+            int[] arr = new int[list.size()];
+            for (int i = 0; i < arr.length; i++) arr[i] = list.get(i);
+            return arr;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.momnect.productservice.command.cache;
+
+import com.momnect.productservice.command.dto.product.ProductCategoryDto;
+import com.momnect.productservice.command.repository.ProductCategoryRepository;
+import com.momnect.productservice.common.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 상품 카테고리 트리 캐시
+ * - 평면 조회 1회로 트리를 만들고 불변 DTO 트리 + ETag(내용 해시)로 보관
+ * - 카테고리 변경(엔티티 리스너, insertMockCategories) 시 무효화 → 다음 조회에서 재구성
+ * - 카테고리 ID → 루트부터의 경로(ID 목록)도 함께 제공
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryTreeCache {
+
+    private final ProductCategoryRepository categoryRepository;
+
+    private volatile Snapshot snapshot;
+
+    // 재구성 도중 무효화되면 결과를 버리기 위한 세대 값
+    private final AtomicLong generation = new AtomicLong();
+
+    public List<ProductCategoryDto> getTree() {
+        return current().roots;
+    }
+
+    /**
+     * 트리 버전 (내용이 같으면 인스턴스가 달라도 같은 값)
+     */
+    public String getETag() {
+        return current().etag;
+    }
+
+    /**
+     * 루트 → 해당 카테고리까지의 ID 경로 (없는 카테고리는 빈 목록)
+     */
+    public List<Long> pathOf(Long categoryId) {
+        return current().paths.getOrDefault(categoryId, List.of());
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        snapshot = null;
+    }
+
+    /** 트랜잭션 안이면 커밋 이후 무효화 (커밋 전 데이터로 재구성되지 않도록) */
+    public void invalidateAfterCommit() {
+        AfterCommit.run(this::invalidate);
+    }
+
+    private Snapshot current() {
+        Snapshot s = snapshot;
+        if (s == null) {
+            synchronized (this) {
+                s = snapshot;
+                if (s == null) {
+                    long gen = generation.get();
+                    s = build();
+                    if (generation.get() == gen) snapshot = s;
+                }
+            }
+        }
+        return s;
+    }
+
+    private Snapshot build() {
+        List<Object[]> rows = categoryRepository.findAllFlat();
+
+        Map<Long, Long> parentOf = new HashMap<>();
+        Map<Long, String> nameOf = new HashMap<>();
+        Map<Long, List<Long>> childrenOf = new HashMap<>();
+        List<Long> rootIds = new ArrayList<>();
+
+        for (Object[] r : rows) {
+            Long id = (Long) r[0];
+            Long parentId = (Long) r[1];
+            nameOf.put(id, (String) r[2]);
+            parentOf.put(id, parentId);
+            if (parentId == null) {
+                rootIds.add(id);
+            } else {
+                childrenOf.computeIfAbsent(parentId, k -> new ArrayList<>()).add(id);
+            }
+        }
+
+        List<ProductCategoryDto> roots = rootIds.stream()
+                .map(id -> toDto(id, nameOf, childrenOf, 0))
+                .toList();
+
+        Map<Long, List<Long>> paths = new HashMap<>();
+        for (Long id : nameOf.keySet()) {
+            paths.put(id, buildPath(id, parentOf));
+        }
+
+        String etag = "\"" + hash(rows) + "\"";
+        log.debug("카테고리 트리 캐시 구성: {}건, etag={}", rows.size(), etag);
+        return new Snapshot(roots, etag, Map.copyOf(paths));
+    }
+
+    private ProductCategoryDto toDto(Long id, Map<Long, String> nameOf, Map<Long, List<Long>> childrenOf, int depth) {
+        // 잘못된 순환 참조 방어
+        List<ProductCategoryDto> children = depth > 32 ? List.of()
+                : childrenOf.getOrDefault(id, List.of()).stream()
+                .map(childId -> toDto(childId, nameOf, childrenOf, depth + 1))
+                .toList();
+
+        return ProductCategoryDto.builder()
+                .id(id)
+                .name(nameOf.get(id))
+                .children(children)
+                .build();
+    }
+
+    private static List<Long> buildPath(Long id, Map<Long, Long> parentOf) {
+        Deque<Long> path = new ArrayDeque<>();
+        Long current = id;
+        while (current != null && path.size() <= 32) {
+            path.addFirst(current);
+            current = parentOf.get(current);
+        }
+        return List.copyOf(path);
+    }
+
+    private static String hash(List<Object[]> rows) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (Object[] r : rows) {
+                digest.update((r[0] + ":" + r[1] + ":" + r[2] + "\n").getBytes(StandardCharsets.UTF_8));
+            }
+            return HexFormat.of().formatHex(digest.digest(), 0, 8);
+        } catch (Exception e) {
+            throw new IllegalStateException("카테고리 ETag 계산 실패", e);
+        }
+    }
+
+    private record Snapshot(List<ProductCategoryDto> roots, String etag, Map<Long, List<Long>> paths) {
+    }
+}
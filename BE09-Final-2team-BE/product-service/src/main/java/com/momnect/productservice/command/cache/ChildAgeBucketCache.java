@@ -0,0 +1,31 @@
+package com.momnect.productservice.command.cache;
+
+import com.momnect.productservice.command.entity.product.RecommendedAge;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * 유저별 자녀 추천 연령대 버킷 캐시
+ * - 홈 요청마다 유저서비스 자녀 조회를 하지 않도록 ttl 동안 재사용
+ * - 자녀 정보 변경은 ttl 이후 반영, 크기는 LRU로 제한
+ */
+@Component
+public class ChildAgeBucketCache {
+
+    private final TtlLruCache<Long, Set<RecommendedAge>> cache;
+
+    public ChildAgeBucketCache(@Value("${product.child-age.cache-ttl-ms:600000}") long ttlMs,
+                               @Value("${product.child-age.cache-max-size:10000}") int maxSize) {
+        this.cache = new TtlLruCache<>(ttlMs, maxSize);
+    }
+
+    public Set<RecommendedAge> get(Long userId) {
+        return cache.get(userId);
+    }
+
+    public void put(Long userId, Set<RecommendedAge> ageBuckets) {
+        cache.put(userId, Set.copyOf(ageBuckets));
+    }
+}
@@ -0,0 +1,161 @@
+package com.momnect.productservice.command.cache;
+
+import com.momnect.productservice.command.client.FileClient;
+import com.momnect.productservice.command.client.dto.ImageFileDTO;
+import com.momnect.productservice.command.repository.ProductImageRepository;
+import com.momnect.productservice.common.ApiResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 이미지 파일 ID → 경로 캐시 (file-service 앞단)
+ * - 업로드된 이미지 경로는 변하지 않으므로 만료 없이 LRU로만 제한
+ * - 캐시에 없는 ID만 모아 file-service에 한 번에 요청
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImagePathCache {
+
+    // file-service 요청 1회당 최대 ID 개수 (쿼리스트링 길이 제한)
+    private static final int LOAD_CHUNK_SIZE = 200;
+
+    private final FileClient fileClient;
+    private final ProductImageRepository productImageRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${product.image-cache.max-size:50000}")
+    private int maxSize;
+
+    // 기동 시 최근 등록 상품 이미지 미리 적재 (0이면 생략)
+    @Value("${product.image-cache.warm-up-size:500}")
+    private int warmUpSize;
+
+    private Map<Long, String> paths;
+
+    private Counter hits;
+    private Counter misses;
+
+    @PostConstruct
+    void init() {
+        // access-order LinkedHashMap → 가장 오래 안 쓰인 항목부터 제거
+        paths = new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, String> eldest) {
+                return size() > maxSize;
+            }
+        };
+
+        hits = Counter.builder("product.image.cache.requests")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        misses = Counter.builder("product.image.cache.requests")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("product.image.cache.size", this, ImagePathCache::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이미지 ID 목록 → 경로 맵 (캐시 미스만 file-service 조회)
+     *
+     * @param imageIds 조회할 이미지 파일 ID
+     * @return imageId → 상대 경로 (file-service에 없는 ID는 제외)
+     */
+    public Map<Long, String> getPaths(Collection<Long> imageIds) {
+        if (imageIds == null || imageIds.isEmpty()) return Map.of();
+
+        Map<Long, String> result = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+
+        synchronized (paths) {
+            for (Long id : new LinkedHashSet<>(imageIds)) {
+                if (id == null) continue;
+                String path = paths.get(id);
+                if (path != null) {
+                    result.put(id, path);
+                } else {
+                    missing.add(id);
+                }
+            }
+        }
+
+        hits.increment(result.size());
+        misses.increment(missing.size());
+
+        if (!missing.isEmpty()) {
+            Map<Long, String> loaded = load(missing);
+            synchronized (paths) {
+                paths.putAll(loaded);
+            }
+            result.putAll(loaded);
+        }
+
+        return result;
+    }
+
+    /**
+     * 단건 조회
+     */
+    public String getPath(Long imageId) {
+        return getPaths(List.of(imageId)).get(imageId);
+    }
+
+    public int size() {
+        synchronized (paths) {
+            return paths.size();
+        }
+    }
+
+    /**
+     * 최근 등록 상품 이미지로 캐시 예열
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (warmUpSize <= 0) return;
+
+        try {
+            List<Long> recentImageIds =
+                    productImageRepository.findRecentImageFileIds(PageRequest.of(0, warmUpSize));
+            getPaths(recentImageIds);
+            log.info("이미지 경로 캐시 예열 완료: {}건", size());
+        } catch (Exception e) {
+            // file-service 미기동 등 → 요청 시점에 채워짐
+            log.warn("이미지 경로 캐시 예열 실패: {}", e.getMessage());
+        }
+    }
+
+    private Map<Long, String> load(List<Long> ids) {
+        Map<Long, String> loaded = new HashMap<>();
+
+        for (int from = 0; from < ids.size(); from += LOAD_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + LOAD_CHUNK_SIZE, ids.size()));
+            String idsParam = chunk.stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(","));
+
+            ApiResponse<List<ImageFileDTO>> response = fileClient.getImageFilesByIds(idsParam);
+            if (response == null || response.getData() == null) continue;
+
+            for (ImageFileDTO dto : response.getData()) {
+                if (dto.getId() != null && dto.getPath() != null) {
+                    loaded.put(dto.getId(), dto.getPath());
+                }
+            }
+        }
+
+        return loaded;
+    }
+}
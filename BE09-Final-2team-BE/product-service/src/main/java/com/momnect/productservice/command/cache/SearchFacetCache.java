@@ -0,0 +1,29 @@
+package com.momnect.productservice.command.cache;
+
+import com.momnect.productservice.command.dto.product.ProductSearchFacets;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검색어 없는 카테고리 브라우즈의 facet 집계 캐시
+ * - 키는 검색 조건 전체(카테고리/필터/히스토그램 간격)를 정규화한 문자열
+ * - 상품 변경을 바로 반영하지는 않고 ttl 동안만 재사용, 크기는 LRU로 제한
+ */
+@Component
+public class SearchFacetCache {
+
+    private final TtlLruCache<String, ProductSearchFacets> cache;
+
+    public SearchFacetCache(@Value("${product.search-facets.cache-ttl-ms:30000}") long ttlMs,
+                            @Value("${product.search-facets.cache-max-size:1000}") int maxSize) {
+        this.cache = new TtlLruCache<>(ttlMs, maxSize);
+    }
+
+    public ProductSearchFacets get(String key) {
+        return cache.get(key);
+    }
+
+    public void put(String key, ProductSearchFacets facets) {
+        cache.put(key, facets);
+    }
+}
@@ -0,0 +1,40 @@
+package com.momnect.productservice.command.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 상품별 유사 상품 ID 캐시 (more_like_this 결과)
+ * - ttl 동안 재사용, 크기는 LRU로 제한
+ * - 아웃박스 디스패처가 색인한 상품은 자기 항목 + 그 상품을 결과에 포함한 항목을 무효화
+ */
+@Component
+public class SimilarProductCache {
+
+    private final TtlLruCache<Long, List<Long>> cache;
+
+    public SimilarProductCache(@Value("${product.similar.cache-ttl-ms:600000}") long ttlMs,
+                               @Value("${product.similar.cache-max-size:10000}") int maxSize) {
+        this.cache = new TtlLruCache<>(ttlMs, maxSize);
+    }
+
+    public Optional<List<Long>> get(Long productId) {
+        return Optional.ofNullable(cache.get(productId));
+    }
+
+    public void put(Long productId, List<Long> similarIds) {
+        cache.put(productId, List.copyOf(similarIds));
+    }
+
+    /**
+     * 변경된 상품과 관련된 항목 제거
+     */
+    public void invalidate(Collection<Long> changedProductIds) {
+        if (changedProductIds.isEmpty()) return;
+        Set<Long> changed = new HashSet<>(changedProductIds);
+        cache.removeIf((productId, similarIds) -> changed.contains(productId)
+                || similarIds.stream().anyMatch(changed::contains));
+    }
+}
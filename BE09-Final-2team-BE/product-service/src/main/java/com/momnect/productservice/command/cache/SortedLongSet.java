@@ -0,0 +1,76 @@
+package com.momnect.productservice.command.cache;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * 정렬된 long[] 기반 불변 집합
+ * - Set<Long> 대비 원소당 8바이트, contains는 이진 탐색
+ * - 변경은 새 배열을 만들어 반환 (읽는 쪽은 잠금 없이 공유)
+ */
+public final class SortedLongSet {
+
+    public static final SortedLongSet EMPTY = new SortedLongSet(new long[0]);
+
+    // 배열 헤더 + 객체 헤더/필드 대략치
+    private static final int OVERHEAD_BYTES = 32;
+
+    private final long[] values;
+
+    private SortedLongSet(long[] sortedValues) {
+        this.values = sortedValues;
+    }
+
+    public static SortedLongSet of(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) return EMPTY;
+        long[] values = ids.stream()
+                .mapToLong(Long::longValue)
+                .sorted()
+                .distinct()
+                .toArray();
+        return new SortedLongSet(values);
+    }
+
+    public boolean contains(long value) {
+        return Arrays.binarySearch(values, value) >= 0;
+    }
+
+    public boolean contains(Long value) {
+        return value != null && contains(value.longValue());
+    }
+
+    public SortedLongSet with(long value) {
+        int idx = Arrays.binarySearch(values, value);
+        if (idx >= 0) return this;
+
+        int insertAt = -idx - 1;
+        long[] next = new long[values.length + 1];
+        System.arraycopy(values, 0, next, 0, insertAt);
+        next[insertAt] = value;
+        System.arraycopy(values, insertAt, next, insertAt + 1, values.length - insertAt);
+        return new SortedLongSet(next);
+    }
+
+    public SortedLongSet without(long value) {
+        int idx = Arrays.binarySearch(values, value);
+        if (idx < 0) return this;
+
+        long[] next = new long[values.length - 1];
+        System.arraycopy(values, 0, next, 0, idx);
+        System.arraycopy(values, idx + 1, next, idx, values.length - idx - 1);
+        return new SortedLongSet(next);
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    public boolean isEmpty() {
+        return values.length == 0;
+    }
+
+    /** 캐시 용량 계산용 대략적인 메모리 크기 */
+    public long memoryBytes() {
+        return OVERHEAD_BYTES + 8L * values.length;
+    }
+}
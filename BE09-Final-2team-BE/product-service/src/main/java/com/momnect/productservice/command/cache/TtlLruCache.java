@@ -0,0 +1,59 @@
+package com.momnect.productservice.command.cache;
+
+import org.springframework.lang.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiPredicate;
+
+/**
+ * ttl + 최대 크기(LRU) 메모리 캐시
+ * - 접근 순서 LinkedHashMap, 크기를 넘으면 가장 오래 쓰지 않은 항목부터 제거
+ * - 만료 항목은 조회 시점에 제거 (별도 정리 스레드 없음)
+ * - 모든 연산은 맵 단위로 동기화
+ */
+public class TtlLruCache<K, V> {
+
+    private final long ttlMs;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    public TtlLruCache(long ttlMs, int maxSize) {
+        this.ttlMs = ttlMs;
+        this.entries = new LinkedHashMap<>(Math.min(maxSize, 1024), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /** 없거나 만료됐으면 null */
+    @Nullable
+    public V get(K key) {
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            if (entry == null) return null;
+            if (System.currentTimeMillis() - entry.cachedAt() >= ttlMs) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.value();
+        }
+    }
+
+    public void put(K key, V value) {
+        synchronized (entries) {
+            entries.put(key, new Entry<>(value, System.currentTimeMillis()));
+        }
+    }
+
+    /** 조건에 맞는 항목 제거 */
+    public void removeIf(BiPredicate<K, V> filter) {
+        synchronized (entries) {
+            entries.entrySet().removeIf(e -> filter.test(e.getKey(), e.getValue().value()));
+        }
+    }
+
+    private record Entry<V>(V value, long cachedAt) {
+    }
+}
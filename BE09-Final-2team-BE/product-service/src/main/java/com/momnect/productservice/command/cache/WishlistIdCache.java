@@ -0,0 +1,153 @@
+package com.momnect.productservice.command.cache;
+
+import com.momnect.productservice.command.repository.WishlistRepository;
+import com.momnect.productservice.common.AfterCommit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * 유저별 찜 상품 ID 캐시
+ * - 값은 정렬된 long[] (SortedLongSet), 전체 메모리 사용량(max-bytes) 기준 LRU
+ * - 찜 추가/취소는 커밋 이후 캐시에 바로 반영 (캐시에 없는 유저는 다음 조회 때 적재)
+ * - 다른 인스턴스에서 바뀐 찜은 ttl 이후 다시 적재되며 반영
+ */
+@Component
+@RequiredArgsConstructor
+public class WishlistIdCache {
+
+    private final WishlistRepository wishlistRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${product.wishlist-cache.max-bytes:33554432}")
+    private long maxBytes;
+
+    @Value("${product.wishlist-cache.ttl-ms:300000}")
+    private long ttlMs;
+
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(1024, 0.75f, true);
+
+    // 캐시 미적재 상태에서 찜이 바뀐 유저 → 변경 시각 (적재 중 경합 방지)
+    private final Map<Long, Long> recentWrites = new LinkedHashMap<>();
+
+    private long totalBytes;
+
+    private Counter hits;
+    private Counter misses;
+
+    @PostConstruct
+    void init() {
+        hits = Counter.builder("product.wishlist.cache.requests")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        misses = Counter.builder("product.wishlist.cache.requests")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("product.wishlist.cache.bytes", this, WishlistIdCache::memoryBytes)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 유저가 찜한 상품 ID 집합 (비로그인 null → 빈 집합)
+     */
+    public SortedLongSet get(@Nullable Long userId) {
+        if (userId == null) return SortedLongSet.EMPTY;
+
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            Entry entry = entries.get(userId);
+            if (entry != null && now - entry.loadedAt < ttlMs) {
+                hits.increment();
+                return entry.ids;
+            }
+        }
+
+        misses.increment();
+        long loadStartedAt = System.nanoTime();
+        SortedLongSet loaded = SortedLongSet.of(wishlistRepository.findProductIdsByUserId(userId));
+
+        synchronized (entries) {
+            // 적재하는 동안 찜이 바뀌었으면 캐시에 넣지 않는다 (다음 조회에서 다시 적재)
+            Long writtenAt = recentWrites.get(userId);
+            if (writtenAt == null || writtenAt < loadStartedAt) {
+                put(userId, new Entry(loaded, now));
+            }
+        }
+        return loaded;
+    }
+
+    public boolean contains(@Nullable Long userId, Long productId) {
+        return get(userId).contains(productId);
+    }
+
+    /** 찜 추가 반영 (트랜잭션 안이면 커밋 이후) */
+    public void added(Long userId, Long productId) {
+        AfterCommit.run(() -> update(userId, ids -> ids.with(productId)));
+    }
+
+    /** 찜 취소 반영 (트랜잭션 안이면 커밋 이후) */
+    public void removed(Long userId, Long productId) {
+        AfterCommit.run(() -> update(userId, ids -> ids.without(productId)));
+    }
+
+    public long memoryBytes() {
+        synchronized (entries) {
+            return totalBytes;
+        }
+    }
+
+    private void update(Long userId, UnaryOperator<SortedLongSet> change) {
+        synchronized (entries) {
+            Entry entry = entries.get(userId);
+            if (entry != null) {
+                put(userId, new Entry(change.apply(entry.ids), entry.loadedAt));
+            }
+            recordWrite(userId);
+        }
+    }
+
+    private void put(Long userId, Entry entry) {
+        Entry previous = entries.put(userId, entry);
+        if (previous != null) totalBytes -= previous.memoryBytes();
+        totalBytes += entry.memoryBytes();
+
+        // 용량 초과 시 가장 오래 안 쓰인 유저부터 제거
+        Iterator<Map.Entry<Long, Entry>> it = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && it.hasNext()) {
+            Map.Entry<Long, Entry> eldest = it.next();
+            if (eldest.getKey().equals(userId)) continue;
+            totalBytes -= eldest.getValue().memoryBytes();
+            it.remove();
+        }
+    }
+
+    private void recordWrite(Long userId) {
+        long now = System.nanoTime();
+        recentWrites.remove(userId);
+        recentWrites.put(userId, now);
+
+        // 적재 경합 방지용이므로 오래된 기록은 정리 (삽입 순서 = 시간 순서)
+        long expireBefore = now - 60_000_000_000L;
+        Iterator<Long> it = recentWrites.values().iterator();
+        while (it.hasNext() && it.next() < expireBefore) {
+            it.remove();
+        }
+    }
+
+    private record Entry(SortedLongSet ids, long loadedAt) {
+        // Long 키 + 엔트리 객체 대략치 포함
+        long memoryBytes() {
+            return ids.memoryBytes() + 64;
+        }
+    }
+}
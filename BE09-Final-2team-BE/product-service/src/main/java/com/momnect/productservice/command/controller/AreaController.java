@@ -1,6 +1,8 @@
 package com.momnect.productservice.command.controller;
 
 import com.momnect.productservice.command.dto.area.AreaDto;
+import com.momnect.productservice.command.dto.area.AreaImportResultDto;
+import com.momnect.productservice.command.service.AreaImportService;
 import com.momnect.productservice.command.service.AreaService;
 import com.momnect.productservice.common.ApiResponse;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +22,7 @@ import java.util.List;
 public class AreaController {
 
     private final AreaService areaService;
+    private final AreaImportService areaImportService;
 
     /**
      * 지역 정보 리스트 조회
@@ -65,4 +68,26 @@ public class AreaController {
                     .body("엑셀 로딩 중 오류 발생: " + e.getMessage());
         }
     }
+
+    /**
+     * API 사용 금지 (내부용, ADMIN)
+     * 지역 파일 스트리밍 적재 (SAX 파서 + JDBC 배치 upsert)
+     *
+     * @param file resources 내 파일명 (.xlsx 또는 .csv)
+     */
+    @GetMapping("/load-stream")
+    public ResponseEntity<ApiResponse<AreaImportResultDto>> loadAreasStreaming(
+            @RequestParam(defaultValue = "area.xlsx") String file) throws Exception {
+        ClassPathResource resource = new ClassPathResource(file);
+        if (!resource.exists()) {
+            throw new IllegalArgumentException("지역 파일을 찾을 수 없습니다: " + file);
+        }
+
+        try (InputStream is = resource.getInputStream()) {
+            AreaImportResultDto result = file.toLowerCase().endsWith(".csv")
+                    ? areaImportService.importCsv(is, 1L)  // 1L: 시스템 유저 예시
+                    : areaImportService.importXlsx(is, 1L);
+            return ResponseEntity.ok(ApiResponse.success(result));
+        }
+    }
 }
@@ -3,6 +3,9 @@ package com.momnect.productservice.command.controller;
 import com.momnect.productservice.command.dto.product.ProductCategoryDto;
 import com.momnect.productservice.command.service.ProductCategoryService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -21,8 +24,22 @@ public class CategoryController {
      * @return 트리 구조의 카테고리 리스트
      */
     @GetMapping("/tree")
-    public ResponseEntity<List<ProductCategoryDto>> getCategoryTree() {
-        return ResponseEntity.ok(categoryService.getCategoryTree());
+    public ResponseEntity<List<ProductCategoryDto>> getCategoryTree(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String etag = categoryService.getCategoryTreeETag();
+
+        // 변경 없음 → 본문 없이 304 (캐시된 버전 비교만, DB 조회 없음)
+        if (etag.equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(categoryService.getCategoryTree());
     }
 
     /***
@@ -0,0 +1,39 @@
+package com.momnect.productservice.command.controller;
+
+import com.momnect.productservice.command.dto.hashtag.TrendingHashtagDto;
+import com.momnect.productservice.command.service.TrendingHashtagService;
+import com.momnect.productservice.common.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/products/hashtags")
+public class HashtagController {
+
+    private final TrendingHashtagService trendingHashtagService;
+
+    /**
+     * 트렌딩 해시태그 (최근 24시간 등록/검색 횟수 순)
+     * ex) /products/hashtags/trending?size=10
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<ApiResponse<List<TrendingHashtagDto>>> getTrending(
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(ApiResponse.success(trendingHashtagService.getTrending(size)));
+    }
+
+    /**
+     * 해시태그 자동완성 (접두어 일치, 트렌딩 순)
+     * ex) /products/hashtags/autocomplete?prefix=유모&size=10
+     */
+    @GetMapping("/autocomplete")
+    public ResponseEntity<ApiResponse<List<TrendingHashtagDto>>> autocomplete(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(ApiResponse.success(trendingHashtagService.autocomplete(prefix, size)));
+    }
+}
@@ -1,6 +1,7 @@
 package com.momnect.productservice.command.controller;
 
 import com.momnect.productservice.command.dto.product.*;
+import com.momnect.productservice.command.service.HomeSectionService;
 import com.momnect.productservice.command.service.ProductService;
 import com.momnect.productservice.common.ApiResponse;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +21,7 @@ import java.util.Map;
 public class ProductController {
 
     private final ProductService productService;
+    private final HomeSectionService homeSectionService;
 
     // 찜하기
     @PostMapping("/{productId}/wishlist")
@@ -57,13 +59,26 @@ public class ProductController {
     }
 
 
+    /***
+     * 상품 기준 유사 상품 (상세 화면용, more_like_this + 상품별 캐시)
+     */
+    @GetMapping("/{productId}/similar")
+    public ResponseEntity<ApiResponse<List<ProductSummaryDto>>> getSimilarProductsOf(
+            @PathVariable Long productId,
+            @AuthenticationPrincipal String userId) throws IOException {
+        List<ProductSummaryDto> similar = productService.getSimilarProductsOf(productId, parseUserId(userId));
+        return ResponseEntity.ok(ApiResponse.success(similar));
+    }
+
     /***
      * 홈 일괄 섹션 (선택)
+     * - 백그라운드 스냅샷 기반, areaIds 지정 시 해당 거래지역 상품만
      */
     @GetMapping("/sections")
     public ResponseEntity<ApiResponse<ProductSectionsResponse>> getHomeProductSections(
+            @RequestParam(required = false) List<Integer> areaIds,
             @AuthenticationPrincipal String userId) {
-        ProductSectionsResponse sections = productService.getHomeProductSections(parseUserId(userId));
+        ProductSectionsResponse sections = homeSectionService.getHomeProductSections(parseUserId(userId), areaIds);
         return ResponseEntity.ok(ApiResponse.success(sections));
     }
 
@@ -82,6 +97,33 @@ public class ProductController {
         return ResponseEntity.ok(ApiResponse.success(result));
     }
 
+    /***
+     * 상품 검색 + facet 집계 (카테고리/추천 연령대/상품 상태 건수, 가격 히스토그램)
+     * - 요청 형식은 /products/search와 동일 (+ priceInterval)
+     */
+    @PostMapping("/search/faceted")
+    public ResponseEntity<ApiResponse<ProductFacetedSearchResponse>> searchProductsWithFacets(
+            @RequestBody ProductSearchRequest request,
+            @AuthenticationPrincipal String userId) throws IOException {
+
+        ProductFacetedSearchResponse result = productService.searchProductsWithFacets(request, parseUserId(userId));
+        return ResponseEntity.ok(ApiResponse.success(result));
+    }
+
+    /***
+     * 상품 커서 검색 (무한 스크롤)
+     * - 첫 요청은 cursor 없이, 이후에는 응답의 nextCursor를 그대로 전달
+     * - 검색 조건/정렬은 첫 요청과 동일해야 함
+     */
+    @PostMapping("/search/cursor")
+    public ResponseEntity<ApiResponse<ProductCursorPage>> searchProductsByCursor(
+            @RequestBody ProductSearchRequest request,
+            @AuthenticationPrincipal String userId) throws IOException {
+
+        ProductCursorPage result = productService.searchProductsByCursor(request, parseUserId(userId));
+        return ResponseEntity.ok(ApiResponse.success(result));
+    }
+
     /***
      * 상품 요약 리스트 조회 API
      * ex) /products/summary?ids=1,2,3
@@ -0,0 +1,42 @@
+package com.momnect.productservice.command.controller;
+
+import com.momnect.productservice.command.dto.reindex.ReindexJobDTO;
+import com.momnect.productservice.command.service.ProductReindexService;
+import com.momnect.productservice.common.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+/**
+ * API 사용 금지 (내부용, ADMIN)
+ * 상품 검색 인덱스 전체 재색인
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/internal/products/reindex")
+public class ReindexController {
+
+    private final ProductReindexService reindexService;
+
+    /**
+     * 재색인 시작 (백그라운드 실행, 진행 상황은 작업 조회로 확인)
+     *
+     * @param resume true면 마지막 실패 작업을 체크포인트부터 재개
+     */
+    @PostMapping
+    public ResponseEntity<ApiResponse<ReindexJobDTO>> startReindex(
+            @RequestParam(defaultValue = "false") boolean resume) throws IOException {
+        ReindexJobDTO job = reindexService.start(resume);
+        return ResponseEntity.accepted().body(ApiResponse.success(job));
+    }
+
+    /**
+     * 재색인 작업 조회 (처리량 docs/sec 포함)
+     */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ApiResponse<ReindexJobDTO>> getReindexJob(@PathVariable Long jobId) {
+        return ResponseEntity.ok(ApiResponse.success(reindexService.getJob(jobId)));
+    }
+}
@@ -16,6 +16,9 @@ import java.util.stream.Collectors;
 @Builder
 public class ProductDocument {
 
+    // 검색/색인 대상 인덱스 (재색인 시에는 alias)
+    public static final String INDEX_NAME = "products";
+
     private Long id;
     private Long categoryId;
     private Long sellerId;
@@ -38,6 +41,8 @@ public class ProductDocument {
     private String emd;                  // 행정동 정보
     private String thumbnailImagePath;   // 대표 이미지 경로
     private List<Integer> tradeAreaIds;     // 거래지역 ids
+    private List<Integer> tradeAreaPathIds; // 거래지역 + 조상(시도/시군구) ids → 어느 레벨이든 term 하나로 필터
+    private List<Long> categoryPathIds;     // 루트 → 자기 카테고리까지 ids
 
     public static ProductDocument fromEntity(Product product, String emd, String thumbnailImagePath, List<Integer> tradeAreaIds) {
         return ProductDocument.builder()
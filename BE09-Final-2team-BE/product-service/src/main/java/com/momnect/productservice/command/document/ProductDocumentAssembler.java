@@ -0,0 +1,101 @@
+package com.momnect.productservice.command.document;
+
+import com.momnect.productservice.command.cache.AreaIndex;
+import com.momnect.productservice.command.cache.CategoryTreeCache;
+import com.momnect.productservice.command.cache.ImagePathCache;
+import com.momnect.productservice.command.entity.area.ProductTradeArea;
+import com.momnect.productservice.command.entity.image.ProductImage;
+import com.momnect.productservice.command.entity.product.Product;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * Product 엔티티 → ProductDocument 변환
+ * - 썸네일 경로는 이미지 경로 캐시에서 한 번에 조회
+ * - 지역/카테고리 조상 경로는 메모리 인덱스(AreaIndex, CategoryTreeCache)로 색인 시점에 펼친다
+ * - 영속성 컨텍스트(트랜잭션) 안에서 호출해야 한다
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductDocumentAssembler {
+
+    private final ImagePathCache imagePathCache;
+    private final AreaIndex areaIndex;
+    private final CategoryTreeCache categoryTreeCache;
+
+    public List<ProductDocument> assemble(List<Product> products) {
+        if (products.isEmpty()) return List.of();
+
+        // 상품별 대표 이미지 (sortOrder 최소)
+        Map<Long, Long> thumbnailIds = new HashMap<>();
+        for (Product product : products) {
+            product.getProductImages().stream()
+                    .min(Comparator.comparingInt(ProductImage::getSortOrder))
+                    .ifPresent(img -> thumbnailIds.put(product.getId(), img.getId().getImageFileId()));
+        }
+        Map<Long, String> paths = imagePathCache.getPaths(thumbnailIds.values());
+
+        List<ProductDocument> docs = new ArrayList<>(products.size());
+        for (Product product : products) {
+            List<ProductTradeArea> tradeAreas = product.getTradeAreas().stream()
+                    .sorted(Comparator.comparing(ta -> ta.getId().getAreaId()))
+                    .toList();
+
+            String emd = tradeAreas.isEmpty() ? null : tradeAreas.get(0).getArea().getName();
+            List<Integer> tradeAreaIds = tradeAreas.stream()
+                    .map(ta -> ta.getId().getAreaId())
+                    .toList();
+
+            ProductDocument doc = ProductDocument.fromEntity(
+                    product, emd, paths.get(thumbnailIds.get(product.getId())), tradeAreaIds);
+            doc.setTradeAreaPathIds(areaPathIds(tradeAreaIds));
+            doc.setCategoryPathIds(categoryPathIds(doc.getCategoryId()));
+            docs.add(doc);
+        }
+        return docs;
+    }
+
+    /**
+     * 거래지역들의 조상 포함 ID (중복 제거)
+     */
+    public List<Integer> areaPathIds(Collection<Integer> areaIds) {
+        Set<Integer> ids = new LinkedHashSet<>();
+        for (Integer areaId : areaIds) {
+            List<Integer> path = areaIndex.pathOf(areaId);
+            if (path.isEmpty()) ids.add(areaId);
+            else ids.addAll(path);
+        }
+        return List.copyOf(ids);
+    }
+
+    /**
+     * 카테고리 조상 포함 ID (루트 → 자기 자신)
+     */
+    public List<Long> categoryPathIds(Long categoryId) {
+        if (categoryId == null) return List.of();
+        List<Long> path = categoryTreeCache.pathOf(categoryId);
+        return path.isEmpty() ? List.of(categoryId) : path;
+    }
+
+    /**
+     * 거래 상태 변경 부분 문서
+     */
+    public static Map<String, Object> statusFields(Product product) {
+        Map<String, Object> fields = new HashMap<>();
+        fields.put("tradeStatus", product.getTradeStatus().name());
+        fields.put("soldAt", ProductDocument.toMillis(product.getSoldAt()));
+        fields.put("updatedAt", ProductDocument.toMillis(product.getUpdatedAt()));
+        return fields;
+    }
+
+    /**
+     * 조회수 변경 부분 문서
+     */
+    public static Map<String, Object> viewCountFields(Product product) {
+        Map<String, Object> fields = new HashMap<>();
+        fields.put("viewCount", product.getViewCount());
+        return fields;
+    }
+}
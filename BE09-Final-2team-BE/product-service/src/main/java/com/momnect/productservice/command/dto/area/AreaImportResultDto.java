@@ -0,0 +1,13 @@
+package com.momnect.productservice.command.dto.area;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class AreaImportResultDto {
+    private Integer rows;           // upsert한 행 수
+    private Integer skippedRows;    // 코드 없음/중복 등으로 건너뛴 행 수
+    private Long elapsedMillis;
+    private Double rowsPerSecond;   // 처리량
+}
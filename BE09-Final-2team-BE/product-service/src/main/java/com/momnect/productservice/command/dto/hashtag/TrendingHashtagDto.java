@@ -0,0 +1,11 @@
+package com.momnect.productservice.command.dto.hashtag;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class TrendingHashtagDto {
+    private String name;    // 해시태그
+    private Long count;     // 최근 윈도우(기본 24시간) 동안 등록/검색된 횟수
+}
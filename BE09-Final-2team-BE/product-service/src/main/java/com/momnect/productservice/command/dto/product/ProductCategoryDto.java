@@ -2,12 +2,13 @@ package com.momnect.productservice.command.dto.product;
 
 import com.momnect.productservice.command.entity.product.ProductCategory;
 import lombok.Builder;
-import lombok.Data;
+import lombok.Getter;
 
 import java.util.List;
 import java.util.stream.Collectors;
 
-@Data
+// 캐시된 트리를 요청 간 공유하므로 불변 (setter 없음)
+@Getter
 @Builder
 public class ProductCategoryDto {
     private Long id;
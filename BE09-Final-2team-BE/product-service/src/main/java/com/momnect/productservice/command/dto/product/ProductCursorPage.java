@@ -0,0 +1,20 @@
+package com.momnect.productservice.command.dto.product;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class ProductCursorPage {
+
+    private List<ProductSummaryDto> content;
+
+    // 다음 페이지 요청 시 그대로 전달 (마지막 페이지면 null)
+    private String nextCursor;
+
+    private Boolean hasNext;
+
+    private Integer size;
+}
@@ -14,4 +14,7 @@ public class ProductDetailDTO {
     private ProductDTO currentProduct; // 현재 조회한 상품 상세
     private UserDTO sellerInfo; // 판매자 정보
     private List<ProductSummaryDto> sellerRecentProducts; // 판매자의 최근 상품 3개
+    private boolean partial; // 일부 항목이 마감 시간 초과/실패로 기본값 대체됨
+    @Builder.Default
+    private List<String> missingSections = List.of(); // 기본값으로 대체된 항목 (seller, reviewCount, images)
 }
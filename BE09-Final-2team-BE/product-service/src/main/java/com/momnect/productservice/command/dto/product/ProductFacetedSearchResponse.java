@@ -0,0 +1,14 @@
+package com.momnect.productservice.command.dto.product;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+
+@Getter
+@Builder
+public class ProductFacetedSearchResponse {
+
+    private Page<ProductSummaryDto> results;
+
+    private ProductSearchFacets facets;
+}
@@ -0,0 +1,82 @@
+package com.momnect.productservice.command.dto.product;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.momnect.productservice.command.entity.product.SortOption;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 검색 커서 (search_after)
+ * - 마지막 결과의 정렬값 + id 타이브레이커, 정렬 옵션, PIT id를 담아 Base64(URL-safe) JSON으로 직렬화
+ * - 클라이언트에는 불투명한 문자열로만 노출
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSearchCursor {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private SortOption sort;            // 커서를 만든 정렬 (다른 정렬로 재사용 불가)
+    private List<Object> searchAfter;   // 마지막 hit의 sort 값
+    private String pitId;               // point-in-time id (사용 안 하면 null)
+
+    public static ProductSearchCursor of(SortOption sort, List<FieldValue> sortValues, String pitId) {
+        List<Object> values = sortValues.stream()
+                .map(FieldValue::_get)
+                .toList();
+        return new ProductSearchCursor(sort, values, pitId);
+    }
+
+    public List<FieldValue> toFieldValues() {
+        return searchAfter.stream()
+                .map(ProductSearchCursor::toFieldValue)
+                .toList();
+    }
+
+    public String encode() {
+        try {
+            byte[] json = MAPPER.writeValueAsBytes(this);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (Exception e) {
+            throw new IllegalStateException("커서 생성 실패", e);
+        }
+    }
+
+    public static ProductSearchCursor decode(String cursor) {
+        try {
+            byte[] json = Base64.getUrlDecoder().decode(cursor.getBytes(StandardCharsets.US_ASCII));
+            ProductSearchCursor decoded = MAPPER.readValue(json, ProductSearchCursor.class);
+            if (decoded.searchAfter == null || decoded.searchAfter.isEmpty()) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return decoded;
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    private static FieldValue toFieldValue(Object value) {
+        if (value instanceof Integer || value instanceof Long) {
+            return FieldValue.of(((Number) value).longValue());
+        }
+        if (value instanceof Number number) {
+            return FieldValue.of(number.doubleValue());
+        }
+        if (value instanceof Boolean bool) {
+            return FieldValue.of(bool);
+        }
+        if (value == null) {
+            return FieldValue.NULL;
+        }
+        return FieldValue.of(value.toString());
+    }
+}
@@ -0,0 +1,35 @@
+package com.momnect.productservice.command.dto.product;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 검색 결과 옆에 보여줄 facet 집계
+ * - 각 facet의 건수는 자기 자신의 선택 조건을 제외한 나머지 조건 기준 (다중 선택 UI용)
+ */
+@Getter
+@Builder
+public class ProductSearchFacets {
+
+    private List<Bucket> categories;        // key: categoryId
+    private List<Bucket> recommendedAges;   // key: RecommendedAge
+    private List<Bucket> productStatuses;   // key: ProductStatus
+    private List<PriceBucket> priceHistogram;
+
+    @Getter
+    @Builder
+    public static class Bucket {
+        private String key;
+        private Long count;
+    }
+
+    @Getter
+    @Builder
+    public static class PriceBucket {
+        private Integer from;   // 이상
+        private Integer to;     // 미만
+        private Long count;
+    }
+}
@@ -20,5 +20,8 @@ public class ProductSearchRequest {
     private SortOption sort;                // 정렬 옵션 enum
     private Integer page;                   // 페이지 번호
     private Integer size;                   // 페이지 크기
+    private String cursor;                  // 커서 모드: 이전 응답의 nextCursor (첫 요청은 null)
+    private Boolean usePit;                 // 커서 모드: point-in-time 고정 여부 (첫 요청에서만 의미 있음)
+    private Integer priceInterval;          // facet 검색: 가격 히스토그램 간격 (기본 10,000원)
 }
 
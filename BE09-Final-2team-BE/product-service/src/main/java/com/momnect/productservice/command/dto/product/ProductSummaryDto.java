@@ -12,7 +12,7 @@ import static com.momnect.productservice.command.document.ProductDocument.toLoca
 
 @Getter
 @Setter
-@Builder
+@Builder(toBuilder = true)
 public class ProductSummaryDto {
 
     private Long id;
@@ -44,7 +44,10 @@ public class ProductSummaryDto {
                 .build();
     }
 
-    public static ProductSummaryDto fromEntity(Product product, String thumbnailUrl, Boolean inWishlist) {
+    /**
+     * 상품 엔티티 → 요약 DTO (지연 컬렉션 접근 없음, 썸네일/지역명은 호출 측에서 일괄 조회)
+     */
+    public static ProductSummaryDto fromEntity(Product product, String thumbnailUrl, String emd, Boolean inWishlist) {
         return ProductSummaryDto.builder()
                 .id(product.getId())
                 .sellerId(product.getSellerId())
@@ -52,7 +55,7 @@ public class ProductSummaryDto {
                 .thumbnailUrl(thumbnailUrl)
                 .inWishlist(inWishlist)
                 .price(product.getPrice())
-                .emd(product.getTradeAreas().get(0).getArea().getName())
+                .emd(emd)
                 .createdAt(product.getCreatedAt())
                 .productStatus(product.getProductStatus().name())
                 .tradeStatus(product.getTradeStatus().name())
@@ -0,0 +1,39 @@
+package com.momnect.productservice.command.dto.reindex;
+
+import com.momnect.productservice.command.entity.reindex.ProductReindexJob;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class ReindexJobDTO {
+    private Long jobId;
+    private String targetIndex;     // 색인 대상 버전 인덱스
+    private String status;
+    private Long lastProductId;     // 체크포인트 (재개 시작점)
+    private Long indexedCount;
+    private Long failedCount;
+    private Double docsPerSecond;   // 처리량
+    private Long elapsedMillis;
+    private String lastError;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    public static ReindexJobDTO fromEntity(ProductReindexJob job) {
+        return ReindexJobDTO.builder()
+                .jobId(job.getId())
+                .targetIndex(job.getTargetIndex())
+                .status(job.getStatus().name())
+                .lastProductId(job.getLastProductId())
+                .indexedCount(job.getIndexedCount())
+                .failedCount(job.getFailedCount())
+                .docsPerSecond(job.docsPerSecond())
+                .elapsedMillis(job.getElapsedMillis())
+                .lastError(job.getLastError())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+}
@@ -6,7 +6,10 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "tbl_area")
+@Table(name = "tbl_area", uniqueConstraints = {
+        // 법정동코드 기준 upsert
+        @UniqueConstraint(name = "uk_area_code", columnNames = "code")
+})
 @Getter
 @Setter
 @NoArgsConstructor
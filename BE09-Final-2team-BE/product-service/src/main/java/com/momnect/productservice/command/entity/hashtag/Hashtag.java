@@ -3,18 +3,42 @@ package com.momnect.productservice.command.entity.hashtag;
 import jakarta.persistence.*;
 import lombok.*;
 
+/**
+ * 해시태그
+ * - uk_hashtag_name: 상품 등록 시 INSERT IGNORE로 없는 태그만 생성하는 기준
+ * - 기존 DB에 같은 이름이 중복돼 있으면 ddl-auto가 유니크 키를 만들지 못하므로 배포 전에 한 번 정리한다
+ *   (가장 작은 id만 남기고 상품 연결을 옮긴 뒤 나머지 삭제)
+ * <pre>
+ * UPDATE IGNORE tbl_product_hashtag ph
+ *   JOIN tbl_hashtag h ON h.id = ph.hashtag_id
+ *   JOIN (SELECT name, MIN(id) AS keep_id FROM tbl_hashtag GROUP BY name HAVING COUNT(*) > 1) d ON d.name = h.name
+ *    SET ph.hashtag_id = d.keep_id
+ *  WHERE h.id <> d.keep_id;
+ * DELETE ph FROM tbl_product_hashtag ph
+ *   JOIN tbl_hashtag h ON h.id = ph.hashtag_id
+ *   JOIN (SELECT name, MIN(id) AS keep_id FROM tbl_hashtag GROUP BY name) d ON d.name = h.name
+ *  WHERE h.id <> d.keep_id;
+ * DELETE h FROM tbl_hashtag h
+ *   JOIN (SELECT name, MIN(id) AS keep_id FROM tbl_hashtag GROUP BY name) d ON d.name = h.name
+ *  WHERE h.id <> d.keep_id;
+ * </pre>
+ */
 @Entity
-@Table(name = "tbl_hashtag")
+@Table(name = "tbl_hashtag",
+        uniqueConstraints = @UniqueConstraint(name = "uk_hashtag_name", columnNames = "name"))
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Hashtag {
 
+    // 해시태그 이름 최대 길이 (컬럼 길이, 등록 시 검증 기준)
+    public static final int MAX_NAME_LENGTH = 50;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(length = 50, nullable = false)
+    @Column(length = MAX_NAME_LENGTH, nullable = false)
     private String name;
 }
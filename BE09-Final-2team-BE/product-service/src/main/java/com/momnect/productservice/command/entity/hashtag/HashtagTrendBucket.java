@@ -0,0 +1,23 @@
+package com.momnect.productservice.command.entity.hashtag;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 트렌딩 해시태그 시간 버킷 스냅샷 (재시작 시 윈도우 복원용)
+ * - 쓰기/읽기는 TrendingHashtagService에서 JDBC로 처리, 엔티티는 테이블 정의용
+ */
+@Entity
+@Table(name = "tbl_hashtag_trend_bucket")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HashtagTrendBucket {
+
+    @EmbeddedId
+    private HashtagTrendBucketId id; // bucket_hour + tag 복합키
+
+    @Column(nullable = false)
+    private Long tagCount;
+}
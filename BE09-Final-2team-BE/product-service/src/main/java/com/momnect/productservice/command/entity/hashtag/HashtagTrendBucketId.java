@@ -0,0 +1,22 @@
+package com.momnect.productservice.command.entity.hashtag;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class HashtagTrendBucketId implements Serializable {
+    private Long bucketHour;   // epoch 기준 시간(hour) 번호
+
+    @Column(length = 50)
+    private String tag;
+}
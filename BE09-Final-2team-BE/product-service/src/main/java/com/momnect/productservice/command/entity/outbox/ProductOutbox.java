@@ -0,0 +1,89 @@
+package com.momnect.productservice.command.entity.outbox;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품 색인 아웃박스
+ * - 상품 변경과 같은 트랜잭션에서 기록되고, 디스패처가 ES에 반영한다
+ */
+@Entity
+@Table(name = "tbl_product_outbox", indexes = {
+        @Index(name = "idx_product_outbox_status_available", columnList = "status, available_at, id")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long productId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private ProductOutboxEventType eventType;
+
+    // MySQL enum 타입으로 만들면 상태 추가 시 ddl-auto update가 컬럼을 바꾸지 않으므로 varchar로 고정
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20, columnDefinition = "varchar(20)")
+    private ProductOutboxStatus status;
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    // 다시 꺼낼 수 있는 시각 (PENDING: 재시도 대기, IN_FLIGHT: 임대 만료)
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    private LocalDateTime publishedAt;
+
+    public static ProductOutbox pending(Long productId, ProductOutboxEventType eventType) {
+        LocalDateTime now = LocalDateTime.now();
+        return ProductOutbox.builder()
+                .productId(productId)
+                .eventType(eventType)
+                .status(ProductOutboxStatus.PENDING)
+                .attempts(0)
+                .createdAt(now)
+                .availableAt(now)
+                .build();
+    }
+
+    /** 디스패처 선점 (임대 만료 전까지 다른 디스패처가 꺼내지 않음) */
+    public void markInFlight(LocalDateTime leaseUntil) {
+        this.status = ProductOutboxStatus.IN_FLIGHT;
+        this.availableAt = leaseUntil;
+    }
+
+    /** ES 반영 완료 */
+    public void markPublished() {
+        this.status = ProductOutboxStatus.PUBLISHED;
+        this.publishedAt = LocalDateTime.now();
+        this.lastError = null;
+    }
+
+    /** 실패 기록 + 재시도 예약 (최대 횟수 초과 시 FAILED) */
+    public void markFailed(String error, int maxAttempts, long backoffMillis) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        if (this.attempts >= maxAttempts) {
+            this.status = ProductOutboxStatus.FAILED;
+        } else {
+            this.status = ProductOutboxStatus.PENDING;
+            this.availableAt = LocalDateTime.now().plusNanos(backoffMillis * 1_000_000L);
+        }
+    }
+}
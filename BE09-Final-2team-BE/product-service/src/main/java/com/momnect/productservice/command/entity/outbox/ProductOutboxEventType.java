@@ -0,0 +1,9 @@
+package com.momnect.productservice.command.entity.outbox;
+
+public enum ProductOutboxEventType {
+    CREATED,            // 상품 등록 → 전체 문서 색인
+    UPDATED,            // 상품 수정 → 전체 문서 색인
+    STATUS_CHANGED,     // 거래 상태 변경 → 부분 업데이트
+    VIEW_COUNT_CHANGED, // 조회수 변경 → 부분 업데이트
+    DELETED             // 상품 삭제 → 문서 삭제
+}
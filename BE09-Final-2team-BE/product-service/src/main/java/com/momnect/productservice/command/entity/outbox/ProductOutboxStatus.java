@@ -0,0 +1,8 @@
+package com.momnect.productservice.command.entity.outbox;
+
+public enum ProductOutboxStatus {
+    PENDING,    // 전송 대기
+    IN_FLIGHT,  // 디스패처가 선점해 ES로 전송 중 (available_at = 임대 만료 시각, 지나면 다시 선점 가능)
+    PUBLISHED,  // ES 반영 완료
+    FAILED      // 최대 재시도 초과
+}
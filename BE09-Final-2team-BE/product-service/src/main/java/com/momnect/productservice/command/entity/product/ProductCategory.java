@@ -7,6 +7,7 @@ import java.util.List;
 
 @Entity
 @Table(name = "tbl_product_category")
+@EntityListeners(ProductCategoryListener.class)
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,27 @@
+package com.momnect.productservice.command.entity.product;
+
+import com.momnect.productservice.command.cache.CategoryTreeCache;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카테고리 쓰기 → 카테고리 트리 캐시 무효화 (커밋 이후)
+ * - EntityManagerFactory 생성 시점과의 순환 참조를 피하려고 캐시는 ObjectProvider로 지연 조회
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductCategoryListener {
+
+    private final ObjectProvider<CategoryTreeCache> categoryTreeCache;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onCategoryChanged(ProductCategory category) {
+        categoryTreeCache.ifAvailable(CategoryTreeCache::invalidateAfterCommit);
+    }
+}
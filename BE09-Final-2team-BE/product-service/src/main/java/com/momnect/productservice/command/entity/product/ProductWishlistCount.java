@@ -0,0 +1,25 @@
+package com.momnect.productservice.command.entity.product;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 상품별 찜 수 (tbl_wishlist 집계 대신 찜 추가/취소 시 원자적으로 증감)
+ */
+@Entity
+@Table(name = "tbl_product_wishlist_count", indexes = {
+        @Index(name = "idx_wishlist_count_rank", columnList = "wishlist_count, product_id")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductWishlistCount {
+
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Column(name = "wishlist_count", nullable = false)
+    private Integer wishlistCount;
+}
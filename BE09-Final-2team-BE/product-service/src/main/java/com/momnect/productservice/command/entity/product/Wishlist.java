@@ -3,8 +3,25 @@ package com.momnect.productservice.command.entity.product;
 import jakarta.persistence.*;
 import lombok.*;
 
+/**
+ * 찜
+ * - uk_wishlist_product_user: 찜하기 INSERT IGNORE와 찜 수 집계의 기준 (없으면 기동 실패, ProductLikeRanking)
+ * - 기존 DB에 같은 (상품, 사용자) 행이 중복돼 있으면 ddl-auto가 유니크 키를 만들지 못하므로 배포 전에 한 번 정리한다
+ *   (가장 작은 id만 남기고 삭제 → 다음 기동 때 ddl-auto가 유니크 키 생성)
+ * <pre>
+ * DELETE w FROM tbl_wishlist w
+ *   JOIN (SELECT product_id, user_id, MIN(id) AS keep_id FROM tbl_wishlist
+ *          GROUP BY product_id, user_id HAVING COUNT(*) > 1) d
+ *     ON d.product_id = w.product_id AND d.user_id = w.user_id
+ *  WHERE w.id <> d.keep_id;
+ * </pre>
+ * 찜 수 카운터를 이미 적재했다면 정리 후 tbl_product_wishlist_count를 비워 다음 기동 때 다시 적재한다.
+ */
 @Entity
-@Table(name = "tbl_wishlist")
+@Table(name = "tbl_wishlist", uniqueConstraints = {
+        // 같은 상품 중복 찜 방지 (INSERT IGNORE 기준)
+        @UniqueConstraint(name = "uk_wishlist_product_user", columnNames = {"product_id", "user_id"})
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
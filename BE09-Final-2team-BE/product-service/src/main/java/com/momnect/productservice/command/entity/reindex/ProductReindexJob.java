@@ -0,0 +1,96 @@
+package com.momnect.productservice.command.entity.reindex;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품 전체 재색인 작업 상태
+ * - 배치마다 체크포인트(lastProductId)를 남겨 실패 시 이어서 색인
+ */
+@Entity
+@Table(name = "tbl_product_reindex_job")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductReindexJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 새로 만든 버전 인덱스 (예: products_v20251018120000)
+    @Column(nullable = false, length = 100)
+    private String targetIndex;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ReindexJobStatus status;
+
+    // 여기까지(포함) 색인 완료된 상품 ID
+    @Column(nullable = false)
+    private Long lastProductId;
+
+    @Column(nullable = false)
+    private Long indexedCount;
+
+    @Column(nullable = false)
+    private Long failedCount;
+
+    // 누적 색인 시간 (재개 시 이어서 합산)
+    @Column(nullable = false)
+    private Long elapsedMillis;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @Column(nullable = false)
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    public static ProductReindexJob start(String targetIndex) {
+        return ProductReindexJob.builder()
+                .targetIndex(targetIndex)
+                .status(ReindexJobStatus.RUNNING)
+                .lastProductId(0L)
+                .indexedCount(0L)
+                .failedCount(0L)
+                .elapsedMillis(0L)
+                .startedAt(LocalDateTime.now())
+                .build();
+    }
+
+    /** 체크포인트 기록 */
+    public void checkpoint(Long lastProductId, long indexed, long failed, long elapsedMillis) {
+        this.lastProductId = lastProductId;
+        this.indexedCount += indexed;
+        this.failedCount += failed;
+        this.elapsedMillis += elapsedMillis;
+    }
+
+    public void resume() {
+        this.status = ReindexJobStatus.RUNNING;
+        this.lastError = null;
+        this.finishedAt = null;
+    }
+
+    public void complete() {
+        this.status = ReindexJobStatus.COMPLETED;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public void fail(String error) {
+        this.status = ReindexJobStatus.FAILED;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    /** 처리량 (docs/sec) */
+    public double docsPerSecond() {
+        if (elapsedMillis == null || elapsedMillis == 0) return 0;
+        return indexedCount * 1000.0 / elapsedMillis;
+    }
+}
@@ -0,0 +1,7 @@
+package com.momnect.productservice.command.entity.reindex;
+
+public enum ReindexJobStatus {
+    RUNNING,    // 색인 중
+    COMPLETED,  // alias 교체 완료
+    FAILED      // 중단 (lastProductId 이후부터 재개 가능)
+}
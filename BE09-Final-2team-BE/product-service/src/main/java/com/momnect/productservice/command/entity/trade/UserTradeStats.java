@@ -0,0 +1,48 @@
+package com.momnect.productservice.command.entity.trade;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 유저별 거래 통계 (COUNT 집계 대신 등록/판매완료 시 원자적으로 증감, 야간 재계산으로 보정)
+ */
+@Entity
+@Table(name = "tbl_user_trade_stats")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserTradeStats {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "listed_count", nullable = false)
+    private Integer listedCount;     // 등록 상품 수 (삭제 제외)
+
+    @Column(name = "sold_count", nullable = false)
+    private Integer soldCount;       // 판매 완료 수
+
+    @Column(name = "purchased_count", nullable = false)
+    private Integer purchasedCount;  // 구매 완료 수
+
+    @Column(name = "active_count", nullable = false)
+    private Integer activeCount;     // 판매 중 상품 수 (삭제/판매완료 제외)
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public static UserTradeStats empty(Long userId) {
+        return UserTradeStats.builder()
+                .userId(userId)
+                .listedCount(0)
+                .soldCount(0)
+                .purchasedCount(0)
+                .activeCount(0)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,7 @@
+package com.momnect.productservice.command.event;
+
+/**
+ * 지역 테이블 변경 (엑셀 적재 등) → 커밋 이후 메모리 인덱스 재적재
+ */
+public record AreaDataChangedEvent(int changedRows) {
+}
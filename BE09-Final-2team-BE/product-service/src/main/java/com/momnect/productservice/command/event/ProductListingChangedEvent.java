@@ -0,0 +1,9 @@
+package com.momnect.productservice.command.event;
+
+import com.momnect.productservice.command.entity.outbox.ProductOutboxEventType;
+
+/**
+ * 상품 목록에 영향을 주는 변경 (등록/수정/거래 상태/삭제) → 커밋 이후 홈 섹션 후보군 갱신
+ */
+public record ProductListingChangedEvent(Long productId, ProductOutboxEventType eventType) {
+}
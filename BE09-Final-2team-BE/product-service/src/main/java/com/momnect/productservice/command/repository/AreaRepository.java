@@ -3,6 +3,7 @@ package com.momnect.productservice.command.repository;
 import com.momnect.productservice.command.entity.area.Area;
 import com.momnect.productservice.command.entity.area.AreaLevel;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 import java.util.Optional;
@@ -17,4 +18,8 @@ public interface AreaRepository extends JpaRepository<Area, Integer> {
 
     // 지역 ID 검색
     List<Area> findByIdIn(List<Integer> ids);
+
+    // 메모리 인덱스 적재용 (id, parentId, code, name, level) - 부모 프록시 로딩 없이 한 번에
+    @Query("select a.id, p.id, a.code, a.name, a.level from Area a left join a.parent p")
+    List<Object[]> findAllFlat();
 }
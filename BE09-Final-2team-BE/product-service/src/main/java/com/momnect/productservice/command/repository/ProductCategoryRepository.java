@@ -2,9 +2,14 @@ package com.momnect.productservice.command.repository;
 
 import com.momnect.productservice.command.entity.product.ProductCategory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 
 public interface ProductCategoryRepository extends JpaRepository<ProductCategory, Long> {
     List<ProductCategory> findByParentIsNull();
+
+    // 트리 구성용 (id, parentId, name) - 자식 컬렉션 지연 로딩 없이 한 번에
+    @Query("select c.id, p.id, c.name from ProductCategory c left join c.parent p order by c.id")
+    List<Object[]> findAllFlat();
 }
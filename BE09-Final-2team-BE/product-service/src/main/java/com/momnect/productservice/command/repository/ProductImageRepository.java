@@ -2,8 +2,24 @@ package com.momnect.productservice.command.repository;
 
 import com.momnect.productservice.command.entity.image.ProductImage;
 import com.momnect.productservice.command.entity.image.ProductImageId;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface ProductImageRepository extends JpaRepository<ProductImage, ProductImageId> {
-}
 
+    // 최근 등록 상품의 이미지 파일 ID (이미지 경로 캐시 예열용)
+    @Query("select pi.id.imageFileId from ProductImage pi join pi.product p " +
+            "where p.isDeleted = false order by p.createdAt desc")
+    List<Long> findRecentImageFileIds(Pageable pageable);
+
+    // 상품별 대표 이미지(정렬 순서가 가장 앞선 이미지) 파일 ID → [productId, imageFileId]
+    @Query("select pi.id.productId, pi.id.imageFileId from ProductImage pi " +
+            "where pi.id.productId in :productIds and pi.sortOrder = " +
+            "(select min(pi2.sortOrder) from ProductImage pi2 where pi2.id.productId = pi.id.productId)")
+    List<Object[]> findThumbnailImageIds(@Param("productIds") Collection<Long> productIds);
+}
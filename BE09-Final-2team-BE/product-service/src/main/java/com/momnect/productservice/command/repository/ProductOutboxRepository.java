@@ -0,0 +1,38 @@
+package com.momnect.productservice.command.repository;
+
+import com.momnect.productservice.command.entity.outbox.ProductOutbox;
+import com.momnect.productservice.command.entity.outbox.ProductOutboxStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ProductOutboxRepository extends JpaRepository<ProductOutbox, Long> {
+
+    // 전송 대기 이벤트 + 임대가 만료된 전송 중 이벤트 선점 (여러 인스턴스가 동시에 꺼내지 않도록 SKIP LOCKED)
+    @Query(value = "SELECT * FROM tbl_product_outbox " +
+            "WHERE status IN ('PENDING', 'IN_FLIGHT') AND available_at <= :now " +
+            "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<ProductOutbox> lockPending(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // 가장 오래된 미반영 이벤트 (지연 지표용)
+    Optional<ProductOutbox> findFirstByStatusInOrderByIdAsc(Collection<ProductOutboxStatus> statuses);
+
+    long countByStatus(ProductOutboxStatus status);
+
+    // 보관 기간이 지난 완료 이벤트 정리
+    @Modifying
+    @Query("delete from ProductOutbox o where o.status = :status and o.publishedAt < :before")
+    int deleteByStatusAndPublishedAtBefore(@Param("status") ProductOutboxStatus status,
+                                           @Param("before") LocalDateTime before);
+
+    // 재색인 이후 변경된 상품 (alias 교체 뒤 다시 반영)
+    @Query("select distinct o.productId from ProductOutbox o where o.createdAt >= :since")
+    List<Long> findProductIdsChangedSince(@Param("since") LocalDateTime since);
+}
@@ -0,0 +1,14 @@
+package com.momnect.productservice.command.repository;
+
+import com.momnect.productservice.command.entity.reindex.ProductReindexJob;
+import com.momnect.productservice.command.entity.reindex.ReindexJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface ProductReindexJobRepository extends JpaRepository<ProductReindexJob, Long> {
+
+    Optional<ProductReindexJob> findFirstByStatusOrderByIdDesc(ReindexJobStatus status);
+
+    boolean existsByStatus(ReindexJobStatus status);
+}
@@ -3,6 +3,7 @@ package com.momnect.productservice.command.repository;
 import com.momnect.productservice.command.entity.product.Product;
 import com.momnect.productservice.command.entity.product.RecommendedAge;
 import com.momnect.productservice.command.entity.product.TradeStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.Collection;
@@ -24,6 +25,14 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
             TradeStatus tradeStatus, Collection<RecommendedAge> ages
     );
 
+    // 홈 스냅샷 후보군: 정렬/개수는 Pageable로 지정
+    List<Product> findByIsDeletedFalseAndTradeStatusNot(TradeStatus tradeStatus, Pageable pageable);
+
+    // 홈 스냅샷 연령대별 후보군
+    List<Product> findByIsDeletedFalseAndTradeStatusNotAndRecommendedAge(
+            TradeStatus tradeStatus, RecommendedAge age, Pageable pageable
+    );
+
     // 지정한 ID 목록 조회 (찜순 정렬은 Service에서 ID 순서로 재정렬)
     List<Product> findByIdIn(List<Long> ids);
 
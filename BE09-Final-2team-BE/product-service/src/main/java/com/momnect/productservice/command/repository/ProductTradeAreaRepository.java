@@ -2,6 +2,20 @@ package com.momnect.productservice.command.repository;
 
 import com.momnect.productservice.command.entity.area.ProductTradeArea;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface ProductTradeAreaRepository extends JpaRepository<ProductTradeArea, Long> {
+
+    // 상품별 대표 거래지역 ID (가장 작은 지역 ID) → [productId, areaId]
+    @Query("select ta.id.productId, min(ta.id.areaId) from ProductTradeArea ta " +
+            "where ta.id.productId in :productIds group by ta.id.productId")
+    List<Object[]> findFirstAreaIds(@Param("productIds") Collection<Long> productIds);
+
+    // 상품별 전체 거래지역 ID → [productId, areaId]
+    @Query("select ta.id.productId, ta.id.areaId from ProductTradeArea ta where ta.id.productId in :productIds")
+    List<Object[]> findAreaIds(@Param("productIds") Collection<Long> productIds);
 }
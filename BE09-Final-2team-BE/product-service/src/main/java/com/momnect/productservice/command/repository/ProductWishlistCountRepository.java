@@ -0,0 +1,38 @@
+package com.momnect.productservice.command.repository;
+
+import com.momnect.productservice.command.entity.product.ProductWishlistCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ProductWishlistCountRepository extends JpaRepository<ProductWishlistCount, Long> {
+
+    @Modifying
+    @Query(value = "INSERT INTO tbl_product_wishlist_count (product_id, wishlist_count) VALUES (:productId, 1) " +
+            "ON DUPLICATE KEY UPDATE wishlist_count = wishlist_count + 1",
+            nativeQuery = true)
+    int increment(@Param("productId") Long productId);
+
+    @Modifying
+    @Query(value = "UPDATE tbl_product_wishlist_count SET wishlist_count = GREATEST(wishlist_count - 1, 0) " +
+            "WHERE product_id = :productId",
+            nativeQuery = true)
+    int decrement(@Param("productId") Long productId);
+
+    // 찜수 TOP N (idx_wishlist_count_rank 역순 스캔)
+    @Query(value = "SELECT product_id FROM tbl_product_wishlist_count WHERE wishlist_count > 0 " +
+            "ORDER BY wishlist_count DESC, product_id DESC LIMIT :limit",
+            nativeQuery = true)
+    List<Long> findTopProductIds(@Param("limit") int limit);
+
+    // 기존 찜 데이터로 초기 적재 (최초 1회)
+    @Modifying
+    @Query(value = "INSERT INTO tbl_product_wishlist_count (product_id, wishlist_count) " +
+            "SELECT product_id, COUNT(DISTINCT user_id) FROM tbl_wishlist GROUP BY product_id " +
+            "ON DUPLICATE KEY UPDATE wishlist_count = VALUES(wishlist_count)",
+            nativeQuery = true)
+    int seedFromWishlist();
+}
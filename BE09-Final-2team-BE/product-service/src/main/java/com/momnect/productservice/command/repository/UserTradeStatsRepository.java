@@ -0,0 +1,78 @@
+package com.momnect.productservice.command.repository;
+
+import com.momnect.productservice.command.entity.trade.UserTradeStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface UserTradeStatsRepository extends JpaRepository<UserTradeStats, Long> {
+
+    // 상품 등록
+    @Modifying
+    @Query(value = "INSERT INTO tbl_user_trade_stats " +
+            "(user_id, listed_count, sold_count, purchased_count, active_count, updated_at) " +
+            "VALUES (:userId, 1, 0, 0, 1, NOW()) " +
+            "ON DUPLICATE KEY UPDATE listed_count = listed_count + 1, active_count = active_count + 1, " +
+            "updated_at = NOW()",
+            nativeQuery = true)
+    int incrementListed(@Param("userId") Long userId);
+
+    // 판매 완료 (판매자)
+    @Modifying
+    @Query(value = "INSERT INTO tbl_user_trade_stats " +
+            "(user_id, listed_count, sold_count, purchased_count, active_count, updated_at) " +
+            "VALUES (:userId, 0, 1, 0, 0, NOW()) " +
+            "ON DUPLICATE KEY UPDATE sold_count = sold_count + 1, active_count = GREATEST(active_count - 1, 0), " +
+            "updated_at = NOW()",
+            nativeQuery = true)
+    int incrementSold(@Param("userId") Long userId);
+
+    // 구매 완료 (구매자)
+    @Modifying
+    @Query(value = "INSERT INTO tbl_user_trade_stats " +
+            "(user_id, listed_count, sold_count, purchased_count, active_count, updated_at) " +
+            "VALUES (:userId, 0, 0, 1, 0, NOW()) " +
+            "ON DUPLICATE KEY UPDATE purchased_count = purchased_count + 1, updated_at = NOW()",
+            nativeQuery = true)
+    int incrementPurchased(@Param("userId") Long userId);
+
+    /**
+     * tbl_product 기준 전체 재계산 (판매자/구매자 집계를 합쳐 upsert)
+     *
+     * @return MySQL 영향 행 수 (신규 1, 값이 바뀐 행 2, 같은 값 0)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO tbl_user_trade_stats " +
+            "(user_id, listed_count, sold_count, purchased_count, active_count, updated_at) " +
+            "SELECT s.user_id, SUM(s.listed), SUM(s.sold), SUM(s.purchased), SUM(s.active), NOW() FROM (" +
+            "  SELECT seller_id AS user_id, SUM(is_deleted = 0) AS listed, SUM(trade_status = 'SOLD') AS sold, " +
+            "         0 AS purchased, SUM(is_deleted = 0 AND trade_status <> 'SOLD') AS active " +
+            "  FROM tbl_product GROUP BY seller_id " +
+            "  UNION ALL " +
+            "  SELECT buyer_id, 0, 0, COUNT(*), 0 FROM tbl_product " +
+            "  WHERE trade_status = 'SOLD' AND buyer_id IS NOT NULL GROUP BY buyer_id" +
+            ") s GROUP BY s.user_id " +
+            // 할당은 왼쪽부터 적용 → updated_at 비교를 카운트 갱신보다 먼저
+            "ON DUPLICATE KEY UPDATE " +
+            "updated_at = IF(listed_count <=> VALUES(listed_count) AND sold_count <=> VALUES(sold_count) " +
+            "AND purchased_count <=> VALUES(purchased_count) AND active_count <=> VALUES(active_count), " +
+            "updated_at, VALUES(updated_at)), " +
+            "listed_count = VALUES(listed_count), sold_count = VALUES(sold_count), " +
+            "purchased_count = VALUES(purchased_count), active_count = VALUES(active_count)",
+            nativeQuery = true)
+    int reconcileAll();
+
+    /**
+     * 집계 결과에 나오지 않는 유저(판매/구매 이력이 모두 사라짐) 통계를 0으로
+     */
+    @Modifying
+    @Query(value = "UPDATE tbl_user_trade_stats t " +
+            "SET t.listed_count = 0, t.sold_count = 0, t.purchased_count = 0, t.active_count = 0, " +
+            "t.updated_at = NOW() " +
+            "WHERE (t.listed_count <> 0 OR t.sold_count <> 0 OR t.purchased_count <> 0 OR t.active_count <> 0) " +
+            "AND NOT EXISTS (SELECT 1 FROM tbl_product p WHERE p.seller_id = t.user_id) " +
+            "AND NOT EXISTS (SELECT 1 FROM tbl_product p WHERE p.buyer_id = t.user_id AND p.trade_status = 'SOLD')",
+            nativeQuery = true)
+    int resetMissing();
+}
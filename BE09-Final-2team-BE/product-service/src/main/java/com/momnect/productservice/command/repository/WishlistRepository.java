@@ -4,6 +4,7 @@ import com.momnect.productservice.command.entity.product.Wishlist;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -19,13 +20,32 @@ public interface WishlistRepository extends JpaRepository<Wishlist, Long> {
     // 특정 유저가 특정 상품을 찜했는지 여부 확인
     boolean existsByProductIdAndUserId(Long productId, Long userId);
 
-    // 찜수가 많은 상품 TOP N
-    @Query("select w.product.id from Wishlist w group by w.product.id order by count(w.id) desc")
-    List<Long> findTopProductIdsByLikeCount(Pageable pageable);
+    // 찜 추가 (이미 있으면 무시 → 영향 행 0)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO tbl_wishlist (product_id, user_id) VALUES (:productId, :userId)",
+            nativeQuery = true)
+    int insertIgnore(@Param("productId") Long productId, @Param("userId") Long userId);
+
+    // uk_wishlist_product_user 컬럼 수, 없으면 0 (중복 행 때문에 ddl-auto가 만들지 못했는지 기동 시 확인)
+    @Query(value = "SELECT COUNT(*) FROM information_schema.statistics " +
+            "WHERE table_schema = DATABASE() AND table_name = 'tbl_wishlist' " +
+            "AND index_name = 'uk_wishlist_product_user'",
+            nativeQuery = true)
+    long countUniqueKeyColumns();
+
+    // 찜 취소 (없으면 영향 행 0)
+    @Modifying
+    @Query(value = "DELETE FROM tbl_wishlist WHERE product_id = :productId AND user_id = :userId",
+            nativeQuery = true)
+    int deleteByProductIdAndUserId(@Param("productId") Long productId, @Param("userId") Long userId);
 
     @Query("select w.product.id from Wishlist w where w.userId = :userId")
     Set<Long> findProductIdsByUserId(Long userId);
 
+    // 내 찜 목록 (찜한 순서)
+    @Query("select w.product.id from Wishlist w where w.userId = :userId order by w.id")
+    List<Long> findProductIdsByUserIdOrderById(Long userId);
+
     boolean existsByUserIdAndProductId(Long userId, Long productId);
 
     long countByProductId(Long productId);
@@ -0,0 +1,264 @@
+package com.momnect.productservice.command.service;
+
+import com.momnect.productservice.command.dto.area.AreaImportResultDto;
+import com.momnect.productservice.command.entity.area.AreaLevel;
+import com.momnect.productservice.command.event.AreaDataChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 지역(법정동) 파일 스트리밍 적재
+ * - XLSX: XSSF SAX(event) 파서로 행 단위 처리 → Workbook 전체를 메모리에 올리지 않음
+ * - CSV: 같은 컬럼 순서(법정동코드, 시도명, 시군구명, 읍면동명, 동리명)
+ * - 레벨 순서(SIDO → SIGUNGU → EMD)로 JDBC 배치 upsert (code 유니크 키)
+ *   부모 ID는 이전 레벨 적재 후 읽어 둔 code → id 맵으로 해결
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AreaImportService {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO tbl_area (code, name, level, parent_id, created_at, updated_at, create_by, update_by) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?) " +
+                    "ON DUPLICATE KEY UPDATE name = VALUES(name), level = VALUES(level), " +
+                    "parent_id = VALUES(parent_id), updated_at = VALUES(updated_at), update_by = VALUES(update_by)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${product.area-import.batch-size:1000}")
+    private int batchSize;
+
+    /**
+     * XLSX 스트리밍 적재
+     */
+    @Transactional
+    public AreaImportResultDto importXlsx(InputStream xlsx, Long systemUserId) throws Exception {
+        long started = System.nanoTime();
+
+        // OPCPackage는 파일로 열어야 zip 엔트리를 필요한 만큼만 읽는다
+        Path temp = Files.createTempFile("area-import-", ".xlsx");
+        try {
+            Files.copy(xlsx, temp, StandardCopyOption.REPLACE_EXISTING);
+            RowCollector collector = new RowCollector();
+
+            try (OPCPackage pkg = OPCPackage.open(temp.toFile(), PackageAccess.READ)) {
+                XSSFReader reader = new XSSFReader(pkg);
+                ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+                StylesTable styles = reader.getStylesTable();
+
+                Iterator<InputStream> sheets = reader.getSheetsData();
+                if (!sheets.hasNext()) {
+                    throw new IllegalArgumentException("시트가 없는 파일입니다.");
+                }
+                try (InputStream sheet = sheets.next()) {
+                    XMLReader parser = XMLHelper.newXMLReader();
+                    parser.setContentHandler(new XSSFSheetXMLHandler(
+                            styles, null, strings, new SheetRowHandler(collector), new DataFormatter(), false));
+                    parser.parse(new InputSource(sheet));
+                }
+            }
+
+            return write(collector, systemUserId, started);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * CSV 스트리밍 적재 (UTF-8, 첫 줄 헤더)
+     */
+    @Transactional
+    public AreaImportResultDto importCsv(InputStream csv, Long systemUserId) throws Exception {
+        long started = System.nanoTime();
+        RowCollector collector = new RowCollector();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8))) {
+            String line = reader.readLine(); // 헤더 스킵
+            while ((line = reader.readLine()) != null) {
+                String[] cols = line.split(",", -1);
+                collector.accept(
+                        col(cols, 0), col(cols, 1), col(cols, 2), col(cols, 3), col(cols, 4));
+            }
+        }
+
+        return write(collector, systemUserId, started);
+    }
+
+    private AreaImportResultDto write(RowCollector collector, Long systemUserId, long started) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int written = 0;
+
+        // 기존 지역 포함 code → id (파일에 부모가 없으면 DB에 있는 부모로 연결)
+        Map<String, Integer> codeToId = new HashMap<>();
+        loadCodeIds(codeToId);
+
+        for (AreaLevel level : AreaLevel.values()) {
+            List<AreaRow> rows = collector.byLevel.get(level);
+            if (rows.isEmpty()) continue;
+
+            for (int from = 0; from < rows.size(); from += batchSize) {
+                List<AreaRow> chunk = rows.subList(from, Math.min(from + batchSize, rows.size()));
+                jdbcTemplate.batchUpdate(UPSERT_SQL, chunk, chunk.size(), (ps, row) -> {
+                    ps.setString(1, row.code());
+                    ps.setString(2, row.name());
+                    ps.setString(3, level.name());
+                    Integer parentId = row.parentCode() != null ? codeToId.get(row.parentCode()) : null;
+                    if (parentId != null) ps.setInt(4, parentId);
+                    else ps.setNull(4, Types.INTEGER);
+                    ps.setTimestamp(5, now);
+                    ps.setTimestamp(6, now);
+                    ps.setLong(7, systemUserId);
+                    ps.setLong(8, systemUserId);
+                });
+            }
+            written += rows.size();
+
+            // 다음 레벨의 부모 해결용
+            loadCodeIds(codeToId);
+        }
+
+        long elapsedMillis = Math.max(1, (System.nanoTime() - started) / 1_000_000);
+        double rowsPerSecond = written * 1000.0 / elapsedMillis;
+        log.info("지역 스트리밍 적재 완료: {}건, 건너뜀 {}건, {}ms ({} rows/sec)",
+                written, collector.skipped, elapsedMillis, String.format("%.0f", rowsPerSecond));
+
+        // 커밋 이후 지역 인덱스 재적재
+        eventPublisher.publishEvent(new AreaDataChangedEvent(written));
+
+        return AreaImportResultDto.builder()
+                .rows(written)
+                .skippedRows(collector.skipped)
+                .elapsedMillis(elapsedMillis)
+                .rowsPerSecond(rowsPerSecond)
+                .build();
+    }
+
+    private void loadCodeIds(Map<String, Integer> codeToId) {
+        jdbcTemplate.query("SELECT code, id FROM tbl_area",
+                rs -> {
+                    codeToId.put(rs.getString(1), rs.getInt(2));
+                });
+    }
+
+    private static String col(String[] cols, int index) {
+        return index < cols.length ? cols[index].trim() : "";
+    }
+
+    /**
+     * 파싱된 행을 레벨별로 모은다 (코드/이름만 보관 → 2만 행 기준 수 MB)
+     */
+    private static final class RowCollector {
+        private final Map<AreaLevel, List<AreaRow>> byLevel = new EnumMap<>(AreaLevel.class);
+        private final Set<String> seenCodes = new HashSet<>();
+        private int skipped;
+
+        private RowCollector() {
+            for (AreaLevel level : AreaLevel.values()) byLevel.put(level, new ArrayList<>());
+        }
+
+        void accept(String code, String sido, String sigungu, String emd, String dongri) {
+            code = normalizeCode(code);
+            if (code.isEmpty() || !seenCodes.add(code)) {
+                skipped++;
+                return;
+            }
+
+            AreaLevel level = AreaService.detectLevel(code);
+            String name = AreaService.resolveName(level, sido, sigungu, emd, dongri);
+            if (name == null || name.isEmpty()) {
+                skipped++;
+                return;
+            }
+            byLevel.get(level).add(new AreaRow(code, name, AreaService.computeParentCode(code)));
+        }
+
+        // 숫자 셀이 "1.1E9" / "1100000000.0" 형태로 올 수 있어 정수 문자열로 정리
+        private static String normalizeCode(String code) {
+            if (code == null) return "";
+            code = code.trim();
+            if (code.contains(".") || code.contains("E")) {
+                try {
+                    return new java.math.BigDecimal(code).toBigInteger().toString();
+                } catch (NumberFormatException ignore) {
+                    return code;
+                }
+            }
+            return code;
+        }
+    }
+
+    /**
+     * SAX 행 핸들러: 셀 참조(A~E)로 컬럼 위치를 잡아 RowCollector에 전달
+     */
+    private static final class SheetRowHandler implements XSSFSheetXMLHandler.SheetContentsHandler {
+        private final RowCollector collector;
+        private final String[] cells = new String[5];
+        private boolean header = true;
+
+        private SheetRowHandler(RowCollector collector) {
+            this.collector = collector;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            Arrays.fill(cells, "");
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (header) {
+                header = false; // 헤더 한 줄 스킵
+                return;
+            }
+            collector.accept(cells[0], cells[1], cells[2], cells[3], cells[4]);
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            if (cellReference == null || formattedValue == null) return;
+            int col = new CellReference(cellReference).getCol();
+            if (col < cells.length) {
+                cells[col] = formattedValue.trim();
+            }
+        }
+
+        @Override
+        public void headerFooter(String text, boolean isHeader, String tagName) {
+            // 사용 안 함
+        }
+    }
+
+    private record AreaRow(String code, String name, String parentCode) {
+    }
+}
@@ -1,11 +1,14 @@
 package com.momnect.productservice.command.service;
 
+import com.momnect.productservice.command.cache.AreaIndex;
 import com.momnect.productservice.command.dto.area.AreaDto;
 import com.momnect.productservice.command.entity.area.Area;
 import com.momnect.productservice.command.entity.area.AreaLevel;
+import com.momnect.productservice.command.event.AreaDataChangedEvent;
 import com.momnect.productservice.command.repository.AreaRepository;
 import lombok.RequiredArgsConstructor;
 import org.apache.poi.ss.usermodel.*;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,72 +22,33 @@ import java.util.stream.Collectors;
 public class AreaService {
 
     private final AreaRepository areaRepository;
+    private final AreaIndex areaIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * 지역 정보 리스트 조회
+     * 지역 정보 리스트 조회 (메모리 인덱스)
      */
     public List<AreaDto> getAreasByIds(List<Long> areaIds) {
         if (areaIds == null || areaIds.isEmpty()) {
             return Collections.emptyList();
         }
 
-        // Repository는 Integer 기반이므로 변환
+        // 인덱스는 Integer 기반이므로 변환
         List<Integer> ids = areaIds.stream()
                 .map(Long::intValue)
                 .toList();
 
-        List<Area> areas = areaRepository.findByIdIn(ids);
-
-        List<AreaDto> result = new ArrayList<>();
-        for (Area area : areas) {
-            String fullName = buildFullName(area);
-            result.add(AreaDto.builder()
-                    .id(area.getId())
-                    .emd(area.getName())
-                    .fullName(fullName)
-                    .build());
-        }
-
-        return result;
+        return areaIndex.getDtos(ids);
     }
 
     /**
-     * 읍면동 이름으로 검색 후 해당 Area 정보를 AreaDto 리스트로 반환
+     * 읍면동 이름으로 검색 후 해당 Area 정보를 AreaDto 리스트로 반환 (메모리 인덱스, 초성 검색 지원)
      *
      * @param emd 검색할 읍면동 이름
      * @return 검색된 읍면동 정보가 담긴 AreaDto 리스트
      */
     public List<AreaDto> searchByEMD(String emd) {
-        List<Area> emdAreas = areaRepository.findByNameContainingAndLevel(emd, AreaLevel.EMD);
-        List<AreaDto> result = new ArrayList<>();
-
-        for (Area area : emdAreas) {
-            String fullName = buildFullName(area);
-            result.add(AreaDto.builder()
-                    .id(area.getId())
-                    .emd(area.getName())
-                    .fullName(fullName)
-                    .build());
-        }
-
-        return result;
-    }
-
-    /***
-     * 지역 풀네임 구하기
-     * @param area
-     * @return
-     */
-    private String buildFullName(Area area) {
-        List<String> parts = new ArrayList<>();
-        Area current = area;
-
-        while (current != null) {
-            parts.add(0, current.getName()); // 부모부터 순서대로
-            current = current.getParent();
-        }
-
-        return String.join(" ", parts);
+        return areaIndex.searchEmd(emd);
     }
 
     /**
@@ -120,15 +84,7 @@ public class AreaService {
             // 레벨 판별
             AreaLevel level = detectLevel(code);
 
-            // 이름 선택: 가장 구체적인(emd > sigungu > sido)
-            String name = "";
-            if (level == AreaLevel.EMD) {
-                name = !emdName.isEmpty() ? emdName : (!dongriName.isEmpty() ? dongriName : sigunguName);
-            } else if (level == AreaLevel.SIGUNGU) {
-                name = !sigunguName.isEmpty() ? sigunguName : sidoName;
-            } else {
-                name = sidoName;
-            }
+            String name = resolveName(level, sidoName, sigunguName, emdName, dongriName);
 
             Area a = Area.builder()
                     .code(code)
@@ -164,6 +120,9 @@ public class AreaService {
         List<Area> all = new ArrayList<>(map.values());
         all.sort(Comparator.comparing(Area::getLevel)); // enum 순서대로 (SIDO < SIGUNGU < EMD)로 정의되어있어야 함
         areaRepository.saveAll(all);
+
+        // 커밋 이후 지역 인덱스 재적재
+        eventPublisher.publishEvent(new AreaDataChangedEvent(all.size()));
     }
 
     private static String getCellString(Cell c) {
@@ -177,7 +136,17 @@ public class AreaService {
         }
     }
 
-    private static AreaLevel detectLevel(String code) {
+    // 이름 선택: 가장 구체적인(emd > sigungu > sido)
+    static String resolveName(AreaLevel level, String sidoName, String sigunguName, String emdName, String dongriName) {
+        if (level == AreaLevel.EMD) {
+            return !emdName.isEmpty() ? emdName : (!dongriName.isEmpty() ? dongriName : sigunguName);
+        } else if (level == AreaLevel.SIGUNGU) {
+            return !sigunguName.isEmpty() ? sigunguName : sidoName;
+        }
+        return sidoName;
+    }
+
+    static AreaLevel detectLevel(String code) {
         // code는 10자리 문자열 (예: 1100000000, 1111000000, 1111010100)
         if (code.endsWith("00000000")) return AreaLevel.SIDO;
         if (code.endsWith("000000")) return AreaLevel.SIGUNGU;
@@ -186,7 +155,7 @@ public class AreaService {
         return AreaLevel.EMD;
     }
 
-    private static String computeParentCode(String code) {
+    static String computeParentCode(String code) {
         if (code.endsWith("00000000")) {
             // SIDO: 최상위, 부모 없음
             return null;
@@ -0,0 +1,375 @@
+package com.momnect.productservice.command.service;
+
+import com.momnect.productservice.command.cache.SortedLongSet;
+import com.momnect.productservice.command.cache.WishlistIdCache;
+import com.momnect.productservice.command.dto.product.ProductSectionsResponse;
+import com.momnect.productservice.command.dto.product.ProductSummaryDto;
+import com.momnect.productservice.command.entity.product.Product;
+import com.momnect.productservice.command.entity.product.RecommendedAge;
+import com.momnect.productservice.command.entity.product.TradeStatus;
+import com.momnect.productservice.command.event.ProductListingChangedEvent;
+import com.momnect.productservice.command.repository.ProductRepository;
+import com.momnect.productservice.command.repository.ProductTradeAreaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 홈 섹션(인기/신규/추천) 스냅샷 서비스
+ * - 백그라운드에서 주기적으로 후보군을 조회해 ProductSummaryDto(썸네일 포함)로 미리 변환해 둔다
+ * - 요청 시에는 스냅샷을 읽고 찜 여부만 덧씌운다 (DB 조회 없음)
+ * - 추천은 연령대 버킷별 정렬 후보를 k-way 병합 (버킷 간 다양성 비율 적용)
+ * - 상품 등록/판매완료 등은 커밋 이후 표시만 해 두고 debounce 주기에 한 번 재계산
+ * - 스냅샷이 준비되기 전에는 기존 ProductService 조회 경로로 폴백
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HomeSectionService {
+
+    private static final int SECTION_SIZE = 30;
+
+    private static final Sort POPULAR_SORT =
+            Sort.by(Sort.Order.desc("viewCount"), Sort.Order.desc("createdAt"));
+    private static final Sort LATEST_SORT =
+            Sort.by(Sort.Order.desc("createdAt"));
+    private static final Sort RECOMMENDED_SORT =
+            Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("viewCount"));
+
+    // 추천 버킷 병합 시 정렬 기준 (createdAt DESC → viewCount DESC)
+    private static final Comparator<SectionItem> RECOMMENDED_ORDER =
+            Comparator.comparing((SectionItem item) -> item.createdAt, Comparator.nullsLast(Comparator.reverseOrder()))
+                    .thenComparing(item -> item.viewCount, Comparator.nullsLast(Comparator.reverseOrder()));
+
+    private final ProductService productService;
+    private final ProductRepository productRepository;
+    private final ProductTradeAreaRepository productTradeAreaRepository;
+    private final WishlistIdCache wishlistIdCache;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    // 섹션별 후보군 크기 (지역 필터 후에도 30개를 채우기 위해 여유 있게 보관)
+    @Value("${product.home-sections.pool-size:100}")
+    private int poolSize;
+
+    @Value("${product.home-sections.refresh-interval-ms:60000}")
+    private long refreshIntervalMs;
+
+    // 추천 병합 시 한 연령대 버킷이 차지할 수 있는 최대 비율 (버킷이 2개 이상일 때)
+    @Value("${product.home-sections.max-bucket-share:0.6}")
+    private double maxBucketShare;
+
+    private volatile HomeSectionSnapshot snapshot;
+
+    // 마지막 재계산 이후 상품 변경 여부
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    private TransactionTemplate readOnlyTx;
+    private Timer refreshTimer;
+    private Counter refreshFailures;
+
+    @PostConstruct
+    void init() {
+        readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+
+        refreshTimer = Timer.builder("product.home.snapshot.refresh")
+                .description("홈 섹션 스냅샷 재계산 시간")
+                .register(meterRegistry);
+        refreshFailures = Counter.builder("product.home.snapshot.refresh.failures")
+                .description("홈 섹션 스냅샷 재계산 실패 횟수")
+                .register(meterRegistry);
+        Gauge.builder("product.home.snapshot.staleness.seconds", this, HomeSectionService::stalenessSeconds)
+                .description("현재 스냅샷이 만들어진 뒤 경과 시간")
+                .register(meterRegistry);
+        Gauge.builder("product.home.snapshot.refresh.interval.seconds", () -> refreshIntervalMs / 1000.0)
+                .description("스냅샷 갱신 주기")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 홈 섹션 조회 (스냅샷 + 찜 여부 overlay)
+     *
+     * @param userId  로그인 유저 ID (비로그인 null)
+     * @param areaIds 거래지역 필터 (null 또는 빈 값이면 전체)
+     */
+    public ProductSectionsResponse getHomeProductSections(@Nullable Long userId, @Nullable Collection<Integer> areaIds) {
+        HomeSectionSnapshot current = snapshot;
+        if (current == null) {
+            // 스냅샷 준비 전 → 기존 조회 경로
+            return productService.getHomeProductSections(userId);
+        }
+
+        Set<Integer> areaFilter = (areaIds == null || areaIds.isEmpty()) ? Set.of() : new HashSet<>(areaIds);
+        SortedLongSet wishlistIds = wishlistIdCache.get(userId);
+
+        return ProductSectionsResponse.builder()
+                .popular(overlay(current.popular, areaFilter, wishlistIds))
+                .latest(overlay(current.latest, areaFilter, wishlistIds))
+                .recommended(pickRecommended(current, userId, areaFilter, wishlistIds))
+                .build();
+    }
+
+    /**
+     * 추천 섹션
+     * - 자녀 연령대 버킷이 있으면 버킷별 후보(이미 정렬됨)를 k-way 병합
+     * - 없으면 찜수 랭킹 → 인기 순으로 폴백
+     */
+    private List<ProductSummaryDto> pickRecommended(HomeSectionSnapshot current, @Nullable Long userId,
+                                                    Set<Integer> areaFilter, SortedLongSet wishlistIds) {
+        Set<RecommendedAge> ageBuckets = productService.resolveChildAgeBuckets(userId);
+        if (!ageBuckets.isEmpty()) {
+            return overlay(mergeAgeBuckets(current, ageBuckets, areaFilter), Set.of(), wishlistIds);
+        }
+        if (!current.likeRanked.isEmpty()) {
+            return overlay(current.likeRanked, areaFilter, wishlistIds);
+        }
+        return overlay(current.popular, areaFilter, wishlistIds);
+    }
+
+    /**
+     * 연령대 버킷 k-way 병합 (RECOMMENDED_ORDER, 지역 필터 적용, 최대 SECTION_SIZE개)
+     * - 다양성: 버킷이 여러 개면 한 버킷이 결과의 max-bucket-share 비율을 넘지 않도록 하고,
+     *   다른 버킷 후보가 모자랄 때만 상한을 넘긴 후보로 채운다
+     */
+    private List<SectionItem> mergeAgeBuckets(HomeSectionSnapshot current, Set<RecommendedAge> ageBuckets,
+                                              Set<Integer> areaFilter) {
+        PriorityQueue<BucketCursor> heap = new PriorityQueue<>(
+                (a, b) -> RECOMMENDED_ORDER.compare(a.head(), b.head()));
+        for (RecommendedAge age : ageBuckets) {
+            List<SectionItem> items = current.byAge.getOrDefault(age, List.of());
+            if (!items.isEmpty()) heap.offer(new BucketCursor(items));
+        }
+
+        int perBucketCap = heap.size() <= 1
+                ? SECTION_SIZE
+                : Math.max(1, (int) Math.ceil(SECTION_SIZE * maxBucketShare));
+
+        List<SectionItem> merged = new ArrayList<>(SECTION_SIZE);
+        List<SectionItem> overflow = new ArrayList<>();
+        while (!heap.isEmpty() && merged.size() < SECTION_SIZE) {
+            BucketCursor cursor = heap.poll();
+            SectionItem item = cursor.next();
+            if (matchesArea(item, areaFilter)) {
+                if (cursor.taken < perBucketCap) {
+                    cursor.taken++;
+                    merged.add(item);
+                } else {
+                    overflow.add(item);
+                }
+            }
+            if (cursor.hasNext()) heap.offer(cursor);
+        }
+
+        if (merged.size() < SECTION_SIZE && !overflow.isEmpty()) {
+            merged.addAll(overflow.subList(0, Math.min(overflow.size(), SECTION_SIZE - merged.size())));
+            merged.sort(RECOMMENDED_ORDER);
+        }
+        return merged;
+    }
+
+    private static boolean matchesArea(SectionItem item, Set<Integer> areaFilter) {
+        return areaFilter.isEmpty() || item.areaIds.stream().anyMatch(areaFilter::contains);
+    }
+
+    private List<ProductSummaryDto> overlay(List<SectionItem> items, Set<Integer> areaFilter, SortedLongSet wishlistIds) {
+        return items.stream()
+                .filter(item -> matchesArea(item, areaFilter))
+                .limit(SECTION_SIZE)
+                .map(item -> item.summary.toBuilder()
+                        .inWishlist(wishlistIds.contains(item.summary.getId()))
+                        .build())
+                .toList();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        refresh();
+    }
+
+    /**
+     * 상품 등록/판매완료 등 → 다음 debounce 주기에 한 번만 재계산
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onListingChanged(ProductListingChangedEvent event) {
+        dirty.set(true);
+    }
+
+    @Scheduled(fixedDelayString = "${product.home-sections.change-debounce-ms:5000}")
+    public void refreshIfChanged() {
+        if (dirty.getAndSet(false)) {
+            refresh();
+        }
+    }
+
+    /**
+     * 스냅샷 재계산 (실패 시 이전 스냅샷 유지)
+     */
+    @Scheduled(fixedDelayString = "${product.home-sections.refresh-interval-ms:60000}",
+            initialDelayString = "${product.home-sections.refresh-interval-ms:60000}")
+    public void refresh() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            HomeSectionSnapshot built = readOnlyTx.execute(status -> buildSnapshot());
+            snapshot = built;
+            log.debug("홈 섹션 스냅샷 갱신 완료: popular={}, latest={}, likeRanked={}",
+                    built.popular.size(), built.latest.size(), built.likeRanked.size());
+        } catch (Exception e) {
+            refreshFailures.increment();
+            log.warn("홈 섹션 스냅샷 갱신 실패 - 이전 스냅샷 유지", e);
+        } finally {
+            sample.stop(refreshTimer);
+        }
+    }
+
+    private HomeSectionSnapshot buildSnapshot() {
+        List<Product> popular = productRepository.findByIsDeletedFalseAndTradeStatusNot(
+                TradeStatus.SOLD, PageRequest.of(0, poolSize, POPULAR_SORT));
+        List<Product> latest = productRepository.findByIsDeletedFalseAndTradeStatusNot(
+                TradeStatus.SOLD, PageRequest.of(0, poolSize, LATEST_SORT));
+
+        Map<RecommendedAge, List<Product>> byAge = new EnumMap<>(RecommendedAge.class);
+        for (RecommendedAge age : RecommendedAge.values()) {
+            byAge.put(age, productRepository.findByIsDeletedFalseAndTradeStatusNotAndRecommendedAge(
+                    TradeStatus.SOLD, age, PageRequest.of(0, poolSize, RECOMMENDED_SORT)));
+        }
+
+        List<Product> likeRanked = productService.findLikeRankedProducts(SECTION_SIZE);
+
+        // 섹션 간 중복 상품을 모아 한 번에 변환 (썸네일 조회 1회)
+        Map<Long, Product> distinct = new LinkedHashMap<>();
+        popular.forEach(p -> distinct.putIfAbsent(p.getId(), p));
+        latest.forEach(p -> distinct.putIfAbsent(p.getId(), p));
+        byAge.values().forEach(list -> list.forEach(p -> distinct.putIfAbsent(p.getId(), p)));
+        likeRanked.forEach(p -> distinct.putIfAbsent(p.getId(), p));
+
+        List<Product> products = new ArrayList<>(distinct.values());
+        List<ProductSummaryDto> summaries = productService.toProductSummaryDtos(products, null);
+
+        // 지역 필터용 거래지역 ID (상품별 지연 로딩 대신 한 번에)
+        Map<Long, Set<Integer>> areaIdsByProduct = new HashMap<>();
+        for (Object[] row : productTradeAreaRepository.findAreaIds(distinct.keySet())) {
+            areaIdsByProduct.computeIfAbsent((Long) row[0], k -> new HashSet<>()).add((Integer) row[1]);
+        }
+
+        Map<Long, SectionItem> items = new HashMap<>();
+        for (int i = 0; i < products.size(); i++) {
+            Product product = products.get(i);
+            items.put(product.getId(), new SectionItem(summaries.get(i), product,
+                    areaIdsByProduct.getOrDefault(product.getId(), Set.of())));
+        }
+
+        Function<List<Product>, List<SectionItem>> toItems = list -> list.stream()
+                .map(p -> items.get(p.getId()))
+                .toList();
+
+        Map<RecommendedAge, List<SectionItem>> ageItems = byAge.entrySet().stream()
+                .collect(Collectors.toMap(
+                        Map.Entry::getKey,
+                        e -> toItems.apply(e.getValue()),
+                        (a, b) -> a,
+                        () -> new EnumMap<>(RecommendedAge.class)));
+
+        return new HomeSectionSnapshot(
+                toItems.apply(popular),
+                toItems.apply(latest),
+                ageItems,
+                toItems.apply(likeRanked),
+                Instant.now());
+    }
+
+    private double stalenessSeconds() {
+        HomeSectionSnapshot current = snapshot;
+        if (current == null) return Double.NaN;
+        return Duration.between(current.builtAt, Instant.now()).toMillis() / 1000.0;
+    }
+
+    /**
+     * 스냅샷 (불변)
+     */
+    private static final class HomeSectionSnapshot {
+        private final List<SectionItem> popular;
+        private final List<SectionItem> latest;
+        private final Map<RecommendedAge, List<SectionItem>> byAge;
+        private final List<SectionItem> likeRanked;
+        private final Instant builtAt;
+
+        private HomeSectionSnapshot(List<SectionItem> popular,
+                                    List<SectionItem> latest,
+                                    Map<RecommendedAge, List<SectionItem>> byAge,
+                                    List<SectionItem> likeRanked,
+                                    Instant builtAt) {
+            this.popular = popular;
+            this.latest = latest;
+            this.byAge = Collections.unmodifiableMap(byAge);
+            this.likeRanked = likeRanked;
+            this.builtAt = builtAt;
+        }
+    }
+
+    /**
+     * 버킷별 병합 위치
+     */
+    private static final class BucketCursor {
+        private final List<SectionItem> items;
+        private int index;
+        private int taken;
+
+        private BucketCursor(List<SectionItem> items) {
+            this.items = items;
+        }
+
+        SectionItem head() {
+            return items.get(index);
+        }
+
+        SectionItem next() {
+            return items.get(index++);
+        }
+
+        boolean hasNext() {
+            return index < items.size();
+        }
+    }
+
+    /**
+     * 스냅샷 항목: 요약 DTO + 지역 필터/병합 정렬용 값
+     */
+    private static final class SectionItem {
+        private final ProductSummaryDto summary;
+        private final Set<Integer> areaIds;
+        private final LocalDateTime createdAt;
+        private final Integer viewCount;
+
+        private SectionItem(ProductSummaryDto summary, Product product, Set<Integer> areaIds) {
+            this.summary = summary;
+            this.areaIds = Set.copyOf(areaIds);
+            this.createdAt = product.getCreatedAt();
+            this.viewCount = product.getViewCount();
+        }
+    }
+}
@@ -1,8 +1,7 @@
 package com.momnect.productservice.command.service;
 
+import com.momnect.productservice.command.cache.CategoryTreeCache;
 import com.momnect.productservice.command.dto.product.ProductCategoryDto;
-import com.momnect.productservice.command.entity.product.ProductCategory;
-import com.momnect.productservice.command.repository.ProductCategoryRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
@@ -11,7 +10,6 @@ import org.springframework.stereotype.Service;
 
 import java.io.IOException;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -20,7 +18,7 @@ public class ProductCategoryService {
     private Resource dataSql;
 
     private final JdbcTemplate jdbcTemplate;
-    private final ProductCategoryRepository categoryRepository;
+    private final CategoryTreeCache categoryTreeCache;
 
     /**
      * 상품 카테고리 전체 트리 조회
@@ -28,10 +26,21 @@ public class ProductCategoryService {
      * @return 트리 구조의 카테고리 리스트
      */
     public List<ProductCategoryDto> getCategoryTree() {
-        List<ProductCategory> roots = categoryRepository.findByParentIsNull();
-        return roots.stream()
-                .map(ProductCategoryDto::fromEntity)
-                .collect(Collectors.toList());
+        return categoryTreeCache.getTree();
+    }
+
+    /**
+     * 카테고리 트리 버전 (ETag)
+     */
+    public String getCategoryTreeETag() {
+        return categoryTreeCache.getETag();
+    }
+
+    /**
+     * 루트 → 해당 카테고리까지의 ID 경로
+     */
+    public List<Long> pathOf(Long categoryId) {
+        return categoryTreeCache.pathOf(categoryId);
     }
 
     /***
@@ -49,6 +58,9 @@ public class ProductCategoryService {
             }
         } catch (IOException e) {
             throw new RuntimeException("data.sql 실행 중 오류 발생", e);
+        } finally {
+            // JDBC로 직접 변경하므로 엔티티 리스너를 거치지 않음
+            categoryTreeCache.invalidate();
         }
     }
 }
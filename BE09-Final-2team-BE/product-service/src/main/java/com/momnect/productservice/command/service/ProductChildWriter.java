@@ -0,0 +1,77 @@
+package com.momnect.productservice.command.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 상품 하위 행(이미지/거래지역/해시태그) JDBC 일괄 저장
+ * - 복합키 엔티티를 한 건씩 save 하면 행마다 select + insert가 나가므로 JDBC 배치 insert 1회로 처리
+ *   (rewriteBatchedStatements=true → 배치가 multi-row INSERT 한 번으로 전송)
+ * - 해시태그는 INSERT IGNORE(유니크 키) 1회 + IN 조회 1회로 ID 확보
+ * - 호출 측 트랜잭션(JPA) 커넥션을 그대로 사용
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductChildWriter {
+
+    private static final String INSERT_IMAGE_SQL =
+            "INSERT INTO tbl_product_image (product_id, image_file_id, sort_order) VALUES (?, ?, ?)";
+    private static final String INSERT_TRADE_AREA_SQL =
+            "INSERT INTO tbl_product_trade_area (product_id, area_id) VALUES (?, ?)";
+    private static final String INSERT_PRODUCT_HASHTAG_SQL =
+            "INSERT INTO tbl_product_hashtag (product_id, hashtag_id) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 상품 이미지 (목록 순서대로 sort_order 1부터)
+     */
+    public void insertImages(Long productId, List<Long> imageFileIds) {
+        if (imageFileIds.isEmpty()) return;
+
+        List<Object[]> args = new ArrayList<>(imageFileIds.size());
+        int sortOrder = 1;
+        for (Long imageFileId : imageFileIds) {
+            args.add(new Object[]{productId, imageFileId, sortOrder++});
+        }
+        jdbcTemplate.batchUpdate(INSERT_IMAGE_SQL, args);
+    }
+
+    /**
+     * 상품 거래지역
+     */
+    public void insertTradeAreas(Long productId, Collection<Integer> areaIds) {
+        if (areaIds.isEmpty()) return;
+
+        List<Object[]> args = areaIds.stream()
+                .map(areaId -> new Object[]{productId, areaId})
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_TRADE_AREA_SQL, args);
+    }
+
+    /**
+     * 해시태그 연결 (없는 해시태그는 먼저 생성)
+     */
+    public void insertHashtags(Long productId, Collection<String> names) {
+        if (names.isEmpty()) return;
+
+        // 1) 없는 해시태그 생성 (이미 있으면 무시)
+        String values = String.join(", ", Collections.nCopies(names.size(), "(?)"));
+        jdbcTemplate.update("INSERT IGNORE INTO tbl_hashtag (name) VALUES " + values, names.toArray());
+
+        // 2) 이름 → ID
+        String in = String.join(", ", Collections.nCopies(names.size(), "?"));
+        List<Long> hashtagIds = jdbcTemplate.queryForList(
+                "SELECT id FROM tbl_hashtag WHERE name IN (" + in + ")", Long.class, names.toArray());
+
+        // 3) 상품-해시태그 연결
+        List<Object[]> args = hashtagIds.stream()
+                .distinct()
+                .map(hashtagId -> new Object[]{productId, hashtagId})
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_PRODUCT_HASHTAG_SQL, args);
+    }
+}
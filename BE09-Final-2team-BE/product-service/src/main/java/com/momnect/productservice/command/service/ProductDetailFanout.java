@@ -0,0 +1,178 @@
+package com.momnect.productservice.command.service;
+
+import com.momnect.productservice.config.FeignAuthorizationHolder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 상품 상세 조회 병렬 호출 (fan-out)
+ * - 서로 독립적인 원격 호출을 제한된 스레드 풀에서 동시에 실행 (DB 조회는 요청 스레드에서)
+ * - 요청 단위 마감 시간(deadline-ms) 안에 끝나지 않거나 실패한 항목은 fallback 값 사용 + 누락 항목으로 기록
+ * - 요청 객체는 넘기지 않고 Feign 호출에 필요한 Authorization 헤더 값만 복사해 작업 스레드로 전달
+ *   (마감 후에도 늦게 끝나는 작업이 재사용된 요청 객체를 읽지 않도록)
+ * - 마감 시간을 넘긴 작업은 작업 스레드를 인터럽트해 취소 (FutureTask)
+ * - 항목별 소요 시간: product.detail.branch{branch, outcome}
+ * - fallback 대체 횟수: product.detail.fallback{branch, outcome = timeout | rejected | error}
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductDetailFanout {
+
+    private final MeterRegistry meterRegistry;
+
+    // 상세 조회 1건에 허용하는 전체 대기 시간
+    @Value("${product.detail.deadline-ms:800}")
+    private long deadlineMs;
+
+    @Value("${product.detail.pool-size:32}")
+    private int poolSize;
+
+    @Value("${product.detail.queue-capacity:512}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger seq = new AtomicInteger();
+        // 큐가 가득 차면 거부 → 호출 측에서 바로 fallback (요청 스레드를 막지 않음)
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "product-detail-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 상세 조회 1건 단위의 fan-out 시작 (마감 시각은 이 시점 기준)
+     */
+    public Fanout start() {
+        return new Fanout(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMs));
+    }
+
+    /**
+     * 요청 1건의 병렬 작업 묶음
+     */
+    public final class Fanout {
+        private final long deadlineNanos;
+        private final List<String> missing = new ArrayList<>();
+
+        private Fanout(long deadlineNanos) {
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        /**
+         * 작업 제출 (결과는 Branch#join으로 마감 시각까지 대기)
+         */
+        public <T> Branch<T> submit(String name, Supplier<T> task, T fallback) {
+            String authorization = FeignAuthorizationHolder.captureFromRequest();
+            Future<T> future;
+            try {
+                // CompletableFuture.cancel은 실행 중인 스레드를 인터럽트하지 않으므로 FutureTask로 제출
+                future = executor.submit(() -> run(name, authorization, task));
+            } catch (RejectedExecutionException e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+            return new Branch<>(this, name, future, fallback);
+        }
+
+        /** 하나라도 fallback으로 대체되었는지 */
+        public boolean isPartial() {
+            return !missing.isEmpty();
+        }
+
+        /** fallback으로 대체된 항목 이름 */
+        public List<String> missingSections() {
+            return List.copyOf(missing);
+        }
+
+        private long remainingNanos() {
+            return Math.max(0, deadlineNanos - System.nanoTime());
+        }
+    }
+
+    /**
+     * 병렬 작업 1개
+     */
+    public final class Branch<T> {
+        private final Fanout fanout;
+        private final String name;
+        private final Future<T> future;
+        private final T fallback;
+
+        private Branch(Fanout fanout, String name, Future<T> future, T fallback) {
+            this.fanout = fanout;
+            this.name = name;
+            this.future = future;
+            this.fallback = fallback;
+        }
+
+        public T join() {
+            try {
+                return future.get(fanout.remainingNanos(), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                outcome(name, "timeout").increment();
+                log.warn("상품 상세 [{}] 마감 시간 초과 → fallback", name);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                outcome(name, cause instanceof RejectedExecutionException ? "rejected" : "error").increment();
+                log.warn("상품 상세 [{}] 조회 실패 → fallback: {}", name, cause.toString());
+            }
+            fanout.missing.add(name);
+            return fallback;
+        }
+    }
+
+    private <T> T run(String name, String authorization, Supplier<T> task) {
+        FeignAuthorizationHolder.set(authorization);
+        long started = System.nanoTime();
+        String outcome = "success";
+        try {
+            return task.get();
+        } catch (RuntimeException e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            Timer.builder("product.detail.branch")
+                    .description("상품 상세 병렬 조회 항목별 소요 시간")
+                    .tag("branch", name)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            FeignAuthorizationHolder.clear();
+        }
+    }
+
+    private Counter outcome(String branch, String outcome) {
+        return Counter.builder("product.detail.fallback")
+                .tag("branch", branch)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,320 @@
+package com.momnect.productservice.command.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import com.momnect.productservice.command.cache.SimilarProductCache;
+import com.momnect.productservice.command.document.ProductDocument;
+import com.momnect.productservice.command.document.ProductDocumentAssembler;
+import com.momnect.productservice.command.entity.outbox.ProductOutbox;
+import com.momnect.productservice.command.entity.outbox.ProductOutboxEventType;
+import com.momnect.productservice.command.entity.outbox.ProductOutboxStatus;
+import com.momnect.productservice.command.entity.product.Product;
+import com.momnect.productservice.command.repository.ProductOutboxRepository;
+import com.momnect.productservice.command.repository.ProductRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 아웃박스 → Elasticsearch 디스패처
+ * - 대기 이벤트가 batch-size 이상 쌓이거나 가장 오래된 이벤트가 max-wait를 넘기면 _bulk 한 번으로 반영
+ * - 같은 상품 이벤트는 하나의 작업으로 합친다 (삭제 > 전체 색인 > 부분 업데이트)
+ * - 실패한 이벤트는 지수 백오프로 재시도, max-attempts 초과 시 FAILED
+ * - 선점은 IN_FLIGHT + 임대 만료 시각으로 커밋 → ES 호출 동안 행 잠금/커넥션을 잡지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductIndexDispatcher {
+
+    private final ProductOutboxRepository outboxRepository;
+    private final ProductRepository productRepository;
+    private final ProductDocumentAssembler documentAssembler;
+    private final SimilarProductCache similarProductCache;
+    private final ElasticsearchClient esClient;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${product.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Value("${product.outbox.max-wait-ms:2000}")
+    private long maxWaitMs;
+
+    @Value("${product.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${product.outbox.retry-backoff-ms:1000}")
+    private long retryBackoffMs;
+
+    // 선점 후 결과를 기록하지 못하면 이 시간 뒤 다시 꺼낼 수 있음 (_bulk 타임아웃보다 길게)
+    @Value("${product.outbox.lease-ms:60000}")
+    private long leaseMs;
+
+    @Value("${product.outbox.retention-hours:24}")
+    private long retentionHours;
+
+    private TransactionTemplate tx;
+    private Timer bulkTimer;
+    private Counter publishedCounter;
+    private Counter failedCounter;
+
+    // 가장 오래된 대기 이벤트의 지연(ms), 디스패치마다 갱신
+    private volatile long lagMillis;
+
+    @PostConstruct
+    void init() {
+        tx = new TransactionTemplate(transactionManager);
+
+        bulkTimer = Timer.builder("product.outbox.bulk")
+                .description("아웃박스 _bulk 요청 시간")
+                .register(meterRegistry);
+        publishedCounter = Counter.builder("product.outbox.events")
+                .tag("result", "published")
+                .register(meterRegistry);
+        failedCounter = Counter.builder("product.outbox.events")
+                .tag("result", "failed")
+                .register(meterRegistry);
+        Gauge.builder("product.outbox.lag.seconds", this, d -> d.lagMillis / 1000.0)
+                .description("가장 오래된 미반영 이벤트의 대기 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${product.outbox.poll-interval-ms:1000}")
+    public void dispatch() {
+        try {
+            // 한 번에 batch-size씩, 더 이상 꺼낼 게 없을 때까지
+            while (dispatchBatch()) {
+                // continue
+            }
+        } catch (Exception e) {
+            log.warn("아웃박스 디스패치 실패", e);
+        } finally {
+            updateLag();
+        }
+    }
+
+    /**
+     * 대기 이벤트 한 배치 처리
+     * - 선점(짧은 트랜잭션, IN_FLIGHT로 커밋) → _bulk (트랜잭션 밖) → 결과 기록(짧은 트랜잭션)
+     *   ES 응답을 기다리는 동안 행 잠금/DB 커넥션을 잡지 않음
+     * - 결과 기록 전에 죽으면 임대(lease-ms) 만료 후 다른 디스패처가 다시 선점 (ES 작업은 같은 결과로 재적용)
+     *
+     * @return 가득 찬 배치를 처리했으면 true (바로 다음 배치 진행)
+     */
+    private boolean dispatchBatch() {
+        Claim claim = tx.execute(status -> claim());
+        if (claim == null) return false;
+
+        Map<Long, String> errors = new HashMap<>();
+        Set<Long> reindex = new HashSet<>();
+        try {
+            BulkResponse response = bulkTimer.recordCallable(() ->
+                    esClient.bulk(b -> b.operations(claim.operations())));
+
+            List<BulkResponseItem> items = response.items();
+            for (int i = 0; i < items.size(); i++) {
+                BulkResponseItem item = items.get(i);
+                Long productId = claim.opProductIds().get(i);
+                if (item.error() == null) continue;
+
+                // 삭제 대상이 이미 없으면 성공으로 간주
+                if (item.status() == 404 && "delete".equals(item.operationType().jsonValue())) continue;
+
+                // 부분 업데이트 대상 문서가 없으면 다음 배치에서 전체 색인
+                if (item.status() == 404 && claim.existingProductIds().contains(productId)) {
+                    reindex.add(productId);
+                    continue;
+                }
+                errors.put(productId, item.error().type() + ": " + item.error().reason());
+            }
+        } catch (Exception e) {
+            // 요청 자체 실패 → 배치 전체 재시도
+            log.warn("ES _bulk 요청 실패: {}건", claim.operations().size(), e);
+            claim.opProductIds().forEach(id -> errors.put(id, e.getClass().getSimpleName() + ": " + e.getMessage()));
+        }
+
+        tx.executeWithoutResult(status -> complete(claim, errors, reindex));
+
+        // 내용/상태가 바뀐 상품의 유사 상품 캐시 무효화 (조회수만 바뀐 상품 제외)
+        similarProductCache.invalidate(claim.contentChangedIds());
+
+        return claim.full();
+    }
+
+    /**
+     * 선점 + _bulk 작업 구성 (트랜잭션 안)
+     *
+     * @return 보낼 배치가 없거나 아직 모으는 중이면 null
+     */
+    private Claim claim() {
+        LocalDateTime now = LocalDateTime.now();
+        List<ProductOutbox> events = outboxRepository.lockPending(now, batchSize);
+        if (events.isEmpty()) return null;
+
+        // 시간 기준 배치: 건수가 모자라면 가장 오래된 이벤트가 max-wait를 넘길 때까지 모은다
+        boolean full = events.size() >= batchSize;
+        long oldestAge = Duration.between(events.get(0).getCreatedAt(), now).toMillis();
+        if (!full && oldestAge < maxWaitMs) return null;
+
+        LocalDateTime leaseUntil = now.plusNanos(leaseMs * 1_000_000L);
+        events.forEach(event -> event.markInFlight(leaseUntil));
+        outboxRepository.saveAll(events);
+
+        Map<Long, List<ProductOutbox>> byProduct = events.stream()
+                .collect(Collectors.groupingBy(ProductOutbox::getProductId, LinkedHashMap::new, Collectors.toList()));
+
+        Map<Long, Product> products = productRepository.findAllById(byProduct.keySet()).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        // 전체 색인 대상 문서 일괄 생성
+        List<Product> toIndex = new ArrayList<>();
+        byProduct.forEach((productId, list) -> {
+            Product product = products.get(productId);
+            if (product != null && resolveAction(list) == Action.INDEX) {
+                toIndex.add(product);
+            }
+        });
+        Map<Long, ProductDocument> docs = documentAssembler.assemble(toIndex).stream()
+                .collect(Collectors.toMap(ProductDocument::getId, Function.identity()));
+
+        List<Long> opProductIds = new ArrayList<>();
+        List<BulkOperation> operations = new ArrayList<>();
+        byProduct.forEach((productId, list) -> {
+            Product product = products.get(productId);
+            BulkOperation op = toOperation(productId, product, resolveAction(list), list, docs.get(productId));
+            opProductIds.add(productId);
+            operations.add(op);
+        });
+
+        List<Long> contentChangedIds = byProduct.entrySet().stream()
+                .filter(e -> e.getValue().stream()
+                        .anyMatch(event -> event.getEventType() != ProductOutboxEventType.VIEW_COUNT_CHANGED))
+                .map(Map.Entry::getKey)
+                .toList();
+
+        return new Claim(events.stream().map(ProductOutbox::getId).toList(),
+                opProductIds, operations, Set.copyOf(products.keySet()), contentChangedIds, full);
+    }
+
+    /**
+     * _bulk 결과 기록 (트랜잭션 안)
+     * - 아직 IN_FLIGHT인 이벤트만 (임대 만료 후 다른 디스패처가 이미 처리한 이벤트는 건너뜀)
+     */
+    private void complete(Claim claim, Map<Long, String> errors, Set<Long> reindex) {
+        List<ProductOutbox> events = outboxRepository.findAllById(claim.eventIds());
+        for (ProductOutbox event : events) {
+            if (event.getStatus() != ProductOutboxStatus.IN_FLIGHT) continue;
+
+            String error = errors.get(event.getProductId());
+            if (error == null) {
+                event.markPublished();
+                publishedCounter.increment();
+            } else {
+                long backoff = retryBackoffMs * (1L << Math.min(event.getAttempts(), 10));
+                event.markFailed(error, maxAttempts, backoff);
+                if (event.getStatus() == ProductOutboxStatus.FAILED) {
+                    failedCounter.increment();
+                    log.error("아웃박스 이벤트 최종 실패: id={}, productId={}, error={}",
+                            event.getId(), event.getProductId(), error);
+                }
+            }
+        }
+        outboxRepository.saveAll(events);
+
+        reindex.forEach(productId ->
+                outboxRepository.save(ProductOutbox.pending(productId, ProductOutboxEventType.UPDATED)));
+    }
+
+    private BulkOperation toOperation(Long productId, Product product, Action action,
+                                      List<ProductOutbox> events, ProductDocument doc) {
+        String id = productId.toString();
+
+        // 상품이 없어졌으면 문서도 삭제
+        if (product == null || action == Action.DELETE) {
+            return BulkOperation.of(b -> b.delete(d -> d.index(ProductDocument.INDEX_NAME).id(id)));
+        }
+
+        if (action == Action.INDEX) {
+            return BulkOperation.of(b -> b.index(i -> i.index(ProductDocument.INDEX_NAME).id(id).document(doc)));
+        }
+
+        // 부분 업데이트: 이벤트 종류별 필드를 합쳐 한 번에
+        Map<String, Object> fields = new HashMap<>();
+        for (ProductOutbox event : events) {
+            if (event.getEventType() == ProductOutboxEventType.STATUS_CHANGED) {
+                fields.putAll(ProductDocumentAssembler.statusFields(product));
+            } else if (event.getEventType() == ProductOutboxEventType.VIEW_COUNT_CHANGED) {
+                fields.putAll(ProductDocumentAssembler.viewCountFields(product));
+            }
+        }
+        return BulkOperation.of(b -> b.update(u -> u
+                .index(ProductDocument.INDEX_NAME)
+                .id(id)
+                .action(a -> a.doc(fields))));
+    }
+
+    private static Action resolveAction(List<ProductOutbox> events) {
+        boolean index = false;
+        for (ProductOutbox event : events) {
+            switch (event.getEventType()) {
+                case DELETED -> {
+                    return Action.DELETE;
+                }
+                case CREATED, UPDATED -> index = true;
+                default -> {
+                }
+            }
+        }
+        return index ? Action.INDEX : Action.PARTIAL_UPDATE;
+    }
+
+    private void updateLag() {
+        try {
+            lagMillis = outboxRepository.findFirstByStatusInOrderByIdAsc(
+                            List.of(ProductOutboxStatus.PENDING, ProductOutboxStatus.IN_FLIGHT))
+                    .map(e -> Duration.between(e.getCreatedAt(), LocalDateTime.now()).toMillis())
+                    .orElse(0L);
+        } catch (Exception e) {
+            log.debug("아웃박스 지연 계산 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 반영 완료 이벤트 정리 (매시 정각)
+     */
+    @Scheduled(cron = "0 0 * * * *")
+    public void purgePublished() {
+        Integer deleted = tx.execute(status -> outboxRepository.deleteByStatusAndPublishedAtBefore(
+                ProductOutboxStatus.PUBLISHED, LocalDateTime.now().minusHours(retentionHours)));
+        if (deleted != null && deleted > 0) {
+            log.info("아웃박스 완료 이벤트 정리: {}건", deleted);
+        }
+    }
+
+    /** 선점한 배치 (_bulk 작업과 결과 기록에 필요한 값) */
+    private record Claim(List<Long> eventIds, List<Long> opProductIds, List<BulkOperation> operations,
+                         Set<Long> existingProductIds, List<Long> contentChangedIds, boolean full) {
+    }
+
+    private enum Action {
+        INDEX, PARTIAL_UPDATE, DELETE
+    }
+}
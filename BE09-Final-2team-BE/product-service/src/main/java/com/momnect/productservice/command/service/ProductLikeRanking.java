@@ -0,0 +1,72 @@
+package com.momnect.productservice.command.service;
+
+import com.momnect.productservice.command.repository.ProductWishlistCountRepository;
+import com.momnect.productservice.command.repository.WishlistRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+/**
+ * 찜수 TOP N 랭킹
+ * - tbl_product_wishlist_count에서 주기적으로 상위 N개 상품 ID를 읽어 메모리에 보관
+ * - 최초 기동 시 카운터 테이블이 비어 있으면 tbl_wishlist 집계로 한 번 채운다
+ * - 찜 중복 방지 유니크 키가 없으면 기동 실패 (INSERT IGNORE가 중복을 넣고 카운터가 어긋나므로, Wishlist 참고)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductLikeRanking {
+
+    private final ProductWishlistCountRepository wishlistCountRepository;
+    private final WishlistRepository wishlistRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    // 삭제/판매완료 제외 후에도 섹션을 채울 수 있도록 여유 있게
+    @Value("${product.like-ranking.size:100}")
+    private int size;
+
+    private volatile List<Long> topProductIds = List.of();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        if (wishlistRepository.countUniqueKeyColumns() == 0) {
+            throw new IllegalStateException("tbl_wishlist에 uk_wishlist_product_user가 없습니다. "
+                    + "중복 찜을 정리한 뒤 다시 기동하세요 (Wishlist 엔티티 주석 참고).");
+        }
+        try {
+            if (wishlistCountRepository.count() == 0) {
+                Integer seeded = new TransactionTemplate(transactionManager)
+                        .execute(status -> wishlistCountRepository.seedFromWishlist());
+                log.info("상품 찜 수 초기 적재: {}건", seeded);
+            }
+        } catch (Exception e) {
+            log.warn("상품 찜 수 초기 적재 실패", e);
+        }
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${product.like-ranking.refresh-interval-ms:60000}",
+            initialDelayString = "${product.like-ranking.refresh-interval-ms:60000}")
+    public void refresh() {
+        try {
+            topProductIds = List.copyOf(wishlistCountRepository.findTopProductIds(size));
+        } catch (Exception e) {
+            log.warn("찜수 랭킹 갱신 실패 - 이전 랭킹 유지", e);
+        }
+    }
+
+    /**
+     * 찜수 내림차순 상품 ID (최대 like-ranking.size개)
+     */
+    public List<Long> topProductIds() {
+        return topProductIds;
+    }
+}
@@ -0,0 +1,40 @@
+package com.momnect.productservice.command.service;
+
+import com.momnect.productservice.command.entity.outbox.ProductOutbox;
+import com.momnect.productservice.command.entity.outbox.ProductOutboxEventType;
+import com.momnect.productservice.command.event.ProductListingChangedEvent;
+import com.momnect.productservice.command.repository.ProductOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+
+/**
+ * 상품 색인 아웃박스 기록
+ * - 호출한 쪽 트랜잭션에 참여하므로 롤백되면 이벤트도 함께 사라진다
+ * - 조회수 외 변경은 ProductListingChangedEvent도 발행 (커밋 이후 메모리 후보군 갱신용)
+ */
+@Service
+@RequiredArgsConstructor
+public class ProductOutboxService {
+
+    private final ProductOutboxRepository outboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public void append(Long productId, ProductOutboxEventType eventType) {
+        outboxRepository.save(ProductOutbox.pending(productId, eventType));
+        if (eventType != ProductOutboxEventType.VIEW_COUNT_CHANGED) {
+            eventPublisher.publishEvent(new ProductListingChangedEvent(productId, eventType));
+        }
+    }
+
+    @Transactional
+    public void appendAll(Collection<Long> productIds, ProductOutboxEventType eventType) {
+        outboxRepository.saveAll(productIds.stream()
+                .map(id -> ProductOutbox.pending(id, eventType))
+                .toList());
+    }
+}
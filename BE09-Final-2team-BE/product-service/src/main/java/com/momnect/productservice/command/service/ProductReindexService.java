@@ -0,0 +1,431 @@
+package com.momnect.productservice.command.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.mapping.TypeMapping;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.elasticsearch.indices.update_aliases.Action;
+import com.momnect.productservice.command.cache.ImagePathCache;
+import com.momnect.productservice.command.document.ProductDocument;
+import com.momnect.productservice.command.document.ProductDocumentAssembler;
+import com.momnect.productservice.command.dto.reindex.ReindexJobDTO;
+import com.momnect.productservice.command.entity.outbox.ProductOutboxEventType;
+import com.momnect.productservice.command.entity.product.ProductStatus;
+import com.momnect.productservice.command.entity.product.RecommendedAge;
+import com.momnect.productservice.command.entity.product.TradeStatus;
+import com.momnect.productservice.command.entity.reindex.ProductReindexJob;
+import com.momnect.productservice.command.entity.reindex.ReindexJobStatus;
+import com.momnect.productservice.command.repository.ProductOutboxRepository;
+import com.momnect.productservice.command.repository.ProductReindexJobRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 전체 재색인 (무중단)
+ * 1. 현재 매핑을 복사해 버전 인덱스(products_v{yyyyMMddHHmmss}) 생성 (refresh 끔, 레플리카 0)
+ * 2. StatelessSession + keyset 페이지네이션(id > lastId)으로 tbl_product를 순차 조회
+ *    이미지/지역/해시태그는 배치 단위 IN 조회, 썸네일 경로는 이미지 경로 캐시로 일괄 조회
+ * 3. 배치마다 _bulk 요청을 병렬 전송, 연속으로 완료된 배치까지 체크포인트 기록
+ *    일부 문서가 실패하면 실패 문서만 재시도, 끝내 실패하면 작업을 FAILED로 두고 alias는 그대로 유지
+ * 4. 설정 복구 → refresh → products alias 원자적 교체
+ * 5. 작업 시작 이후 변경된 상품은 아웃박스에 다시 넣어 새 인덱스에 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductReindexService {
+
+    private static final DateTimeFormatter VERSION_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private static final String PRODUCT_QUERY =
+            "select p.id, c.id, p.sellerId, p.name, p.content, p.price, p.productStatus, p.tradeStatus, " +
+                    "p.recommendedAge, p.viewCount, p.createdAt, p.updatedAt, p.soldAt, p.isDeleted " +
+                    "from Product p left join p.category c " +
+                    "where p.id > :lastId order by p.id";
+    private static final String IMAGE_QUERY =
+            "select pi.id.productId, pi.id.imageFileId, pi.sortOrder from ProductImage pi " +
+                    "where pi.id.productId in :ids";
+    private static final String AREA_QUERY =
+            "select ta.id.productId, a.id, a.name from ProductTradeArea ta join ta.area a " +
+                    "where ta.id.productId in :ids order by ta.id.productId, a.id";
+    private static final String HASHTAG_QUERY =
+            "select ph.id.productId, h.name from ProductHashtag ph join ph.hashtag h " +
+                    "where ph.id.productId in :ids";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ElasticsearchClient esClient;
+    private final ImagePathCache imagePathCache;
+    private final ProductDocumentAssembler documentAssembler;
+    private final ProductReindexJobRepository jobRepository;
+    private final ProductOutboxRepository outboxRepository;
+    private final ProductOutboxService outboxService;
+
+    @Value("${product.reindex.batch-size:1000}")
+    private int batchSize;
+
+    // 동시에 전송 중인 _bulk 요청 수
+    @Value("${product.reindex.bulk-concurrency:4}")
+    private int bulkConcurrency;
+
+    // 교체 후 새 인덱스에 적용할 레플리카 수
+    @Value("${product.reindex.replicas:1}")
+    private int replicas;
+
+    // _bulk 일부 실패 시 실패 문서만 다시 보내는 횟수
+    @Value("${product.reindex.bulk-retries:3}")
+    private int bulkRetries;
+
+    // 재시도 간격 (시도 횟수만큼 곱해서 대기)
+    @Value("${product.reindex.retry-backoff-ms:1000}")
+    private long retryBackoffMs;
+
+    private final ExecutorService runner = Executors.newSingleThreadExecutor(r -> new Thread(r, "product-reindex"));
+
+    @PreDestroy
+    void shutdown() {
+        runner.shutdownNow();
+    }
+
+    /**
+     * 재시작 등으로 RUNNING 상태로 남은 작업은 FAILED로 돌려 재개 가능하게 한다
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverInterruptedJobs() {
+        jobRepository.findFirstByStatusOrderByIdDesc(ReindexJobStatus.RUNNING).ifPresent(job -> {
+            job.fail("서버 재시작으로 중단됨");
+            jobRepository.save(job);
+            log.warn("중단된 재색인 작업 발견: jobId={}, lastProductId={}", job.getId(), job.getLastProductId());
+        });
+    }
+
+    /**
+     * 재색인 시작
+     *
+     * @param resume true면 마지막 실패 작업을 체크포인트 이후부터 이어서 진행
+     */
+    public synchronized ReindexJobDTO start(boolean resume) throws IOException {
+        if (jobRepository.existsByStatus(ReindexJobStatus.RUNNING)) {
+            throw new IllegalStateException("이미 진행 중인 재색인 작업이 있습니다.");
+        }
+
+        ProductReindexJob job;
+        if (resume) {
+            job = jobRepository.findFirstByStatusOrderByIdDesc(ReindexJobStatus.FAILED)
+                    .orElseThrow(() -> new IllegalStateException("재개할 재색인 작업이 없습니다."));
+            if (!indexExists(job.getTargetIndex())) {
+                throw new IllegalStateException("대상 인덱스가 없습니다: " + job.getTargetIndex());
+            }
+            job.resume();
+        } else {
+            String targetIndex = ProductDocument.INDEX_NAME + "_v" + LocalDateTime.now().format(VERSION_FORMAT);
+            createTargetIndex(targetIndex);
+            job = ProductReindexJob.start(targetIndex);
+        }
+
+        ProductReindexJob saved = jobRepository.save(job);
+        runner.submit(() -> run(saved));
+
+        log.info("재색인 시작: jobId={}, index={}, fromId={}",
+                saved.getId(), saved.getTargetIndex(), saved.getLastProductId());
+        return ReindexJobDTO.fromEntity(saved);
+    }
+
+    public ReindexJobDTO getJob(Long jobId) {
+        return jobRepository.findById(jobId)
+                .map(ReindexJobDTO::fromEntity)
+                .orElseThrow(() -> new IllegalArgumentException("재색인 작업을 찾을 수 없습니다. ID: " + jobId));
+    }
+
+    private void run(ProductReindexJob job) {
+        ExecutorService bulkExecutor = Executors.newFixedThreadPool(bulkConcurrency);
+        Semaphore inFlight = new Semaphore(bulkConcurrency);
+        Deque<PendingBulk> pending = new ArrayDeque<>();
+        long[] lastCheckpointAt = {System.nanoTime()};
+
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        String targetIndex = job.getTargetIndex();
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            long lastId = job.getLastProductId();
+
+            while (true) {
+                List<Object[]> rows = session.createSelectionQuery(PRODUCT_QUERY, Object[].class)
+                        .setParameter("lastId", lastId)
+                        .setMaxResults(batchSize)
+                        .setFetchSize(batchSize)
+                        .setReadOnly(true)
+                        .getResultList();
+                if (rows.isEmpty()) break;
+
+                List<ProductDocument> docs = buildDocuments(session, rows);
+                lastId = (Long) rows.get(rows.size() - 1)[0];
+
+                inFlight.acquire();
+                long batchLastId = lastId;
+                CompletableFuture<Integer> future = CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return sendBulk(targetIndex, docs);
+                    } finally {
+                        inFlight.release();
+                    }
+                }, bulkExecutor);
+                pending.addLast(new PendingBulk(batchLastId, docs.size(), future));
+
+                // 앞에서부터 연속으로 끝난 배치까지만 체크포인트
+                job = drainCompleted(job, pending, lastCheckpointAt, false);
+            }
+
+            job = drainCompleted(job, pending, lastCheckpointAt, true);
+
+            // 재시도 후에도 색인되지 않은 문서가 있으면 (이전 실행분 포함) 새 인덱스가 불완전하므로 교체하지 않는다
+            if (job.getFailedCount() > 0) {
+                throw new IllegalStateException("색인 실패 문서가 " + job.getFailedCount()
+                        + "건 있어 alias를 교체하지 않습니다. 재색인을 새로 시작하세요.");
+            }
+
+            swapAlias(targetIndex);
+            requeueChangedSince(job.getStartedAt());
+
+            job.complete();
+            job = jobRepository.save(job);
+            log.info("재색인 완료: jobId={}, index={}, indexed={}, failed={}, {} docs/sec",
+                    job.getId(), job.getTargetIndex(), job.getIndexedCount(), job.getFailedCount(),
+                    String.format("%.1f", job.docsPerSecond()));
+        } catch (Exception e) {
+            pending.forEach(p -> p.future.cancel(true));
+            job.fail(e.getClass().getSimpleName() + ": " + e.getMessage());
+            jobRepository.save(job);
+            log.error("재색인 실패: jobId={}, lastProductId={}", job.getId(), job.getLastProductId(), e);
+        } finally {
+            bulkExecutor.shutdownNow();
+        }
+    }
+
+    private ProductReindexJob drainCompleted(ProductReindexJob job, Deque<PendingBulk> pending,
+                                             long[] lastCheckpointAt, boolean waitAll) throws Exception {
+        boolean advanced = false;
+        while (!pending.isEmpty() && (waitAll || pending.peekFirst().future.isDone())) {
+            PendingBulk head = pending.pollFirst();
+            int failed;
+            try {
+                failed = head.future.get();
+            } catch (ExecutionException e) {
+                // 실패한 배치 이전까지만 체크포인트가 남아 재개 시 이 배치부터 다시 보낸다
+                throw (e.getCause() instanceof Exception cause) ? cause : e;
+            }
+
+            long now = System.nanoTime();
+            job.checkpoint(head.lastProductId, head.size - failed, failed,
+                    TimeUnit.NANOSECONDS.toMillis(now - lastCheckpointAt[0]));
+            lastCheckpointAt[0] = now;
+            advanced = true;
+        }
+
+        if (!advanced) return job;
+
+        ProductReindexJob saved = jobRepository.save(job);
+        log.info("재색인 진행: jobId={}, lastProductId={}, indexed={}, failed={}, {} docs/sec",
+                saved.getId(), saved.getLastProductId(), saved.getIndexedCount(), saved.getFailedCount(),
+                String.format("%.1f", saved.docsPerSecond()));
+        return saved;
+    }
+
+    /**
+     * 상품 행 배치 → ProductDocument (연관 데이터는 배치 단위로 한 번씩 조회)
+     */
+    private List<ProductDocument> buildDocuments(StatelessSession session, List<Object[]> rows) {
+        List<Long> ids = rows.stream().map(r -> (Long) r[0]).toList();
+
+        // 대표 이미지 (sortOrder 최소)
+        Map<Long, Object[]> thumbnails = new HashMap<>();
+        for (Object[] r : session.createSelectionQuery(IMAGE_QUERY, Object[].class)
+                .setParameter("ids", ids).getResultList()) {
+            thumbnails.merge((Long) r[0], r, (a, b) -> (Integer) a[2] <= (Integer) b[2] ? a : b);
+        }
+        Map<Long, String> paths = imagePathCache.getPaths(
+                thumbnails.values().stream().map(r -> (Long) r[1]).toList());
+
+        // 거래지역 (areaId 오름차순, 첫 지역명이 emd)
+        Map<Long, List<Object[]>> areas = session.createSelectionQuery(AREA_QUERY, Object[].class)
+                .setParameter("ids", ids).getResultList().stream()
+                .collect(Collectors.groupingBy(r -> (Long) r[0]));
+
+        Map<Long, List<String>> hashtags = session.createSelectionQuery(HASHTAG_QUERY, Object[].class)
+                .setParameter("ids", ids).getResultList().stream()
+                .collect(Collectors.groupingBy(r -> (Long) r[0],
+                        Collectors.mapping(r -> (String) r[1], Collectors.toList())));
+
+        List<ProductDocument> docs = new ArrayList<>(rows.size());
+        for (Object[] r : rows) {
+            Long id = (Long) r[0];
+            List<Object[]> productAreas = areas.getOrDefault(id, List.of());
+            Object[] thumbnail = thumbnails.get(id);
+
+            docs.add(ProductDocument.builder()
+                    .id(id)
+                    .categoryId((Long) r[1])
+                    .sellerId((Long) r[2])
+                    .name((String) r[3])
+                    .content((String) r[4])
+                    .price((Integer) r[5])
+                    .productStatus(((ProductStatus) r[6]).name())
+                    .tradeStatus(((TradeStatus) r[7]).name())
+                    .recommendedAge(((RecommendedAge) r[8]).name())
+                    .viewCount((Integer) r[9])
+                    .createdAt(ProductDocument.toMillis((LocalDateTime) r[10]))
+                    .updatedAt(ProductDocument.toMillis((LocalDateTime) r[11]))
+                    .soldAt(ProductDocument.toMillis((LocalDateTime) r[12]))
+                    .isDeleted((Boolean) r[13])
+                    .hashtags(hashtags.getOrDefault(id, List.of()))
+                    .emd(productAreas.isEmpty() ? null : (String) productAreas.get(0)[2])
+                    .tradeAreaIds(productAreas.stream().map(a -> (Integer) a[1]).toList())
+                    .tradeAreaPathIds(documentAssembler.areaPathIds(
+                            productAreas.stream().map(a -> (Integer) a[1]).toList()))
+                    .categoryPathIds(documentAssembler.categoryPathIds((Long) r[1]))
+                    .thumbnailImagePath(thumbnail == null ? null : paths.get((Long) thumbnail[1]))
+                    .build());
+        }
+        return docs;
+    }
+
+    /**
+     * 배치 전송, 실패한 문서만 골라 bulkRetries 회까지 재시도
+     * - 요청 자체가 실패하면 예외 → 작업 실패 처리 (이 배치 이전까지만 체크포인트, 재개 시 다시 보냄)
+     *
+     * @return 재시도 후에도 색인되지 않은 문서 수 (작업의 failedCount에 누적, 0이 아니면 alias 교체 안 함)
+     */
+    private int sendBulk(String index, List<ProductDocument> docs) {
+        List<ProductDocument> remaining = docs;
+        for (int attempt = 0; ; attempt++) {
+            List<BulkOperation> operations = remaining.stream()
+                    .map(doc -> BulkOperation.of(b -> b.index(i -> i
+                            .index(index)
+                            .id(doc.getId().toString())
+                            .document(doc))))
+                    .toList();
+            BulkResponse response;
+            try {
+                response = esClient.bulk(b -> b.operations(operations));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (!response.errors()) return 0;
+
+            List<BulkResponseItem> failedItems = response.items().stream()
+                    .filter(item -> item.error() != null)
+                    .toList();
+            String firstReason = failedItems.get(0).error().reason();
+            if (attempt >= bulkRetries) {
+                log.error("재색인 _bulk 실패 {}건 (재시도 {}회 초과), 첫 오류={}",
+                        failedItems.size(), bulkRetries, firstReason);
+                return failedItems.size();
+            }
+            log.warn("재색인 _bulk 일부 실패: {}건, 재시도 {}/{}, 첫 오류={}",
+                    failedItems.size(), attempt + 1, bulkRetries, firstReason);
+
+            Set<String> failedIds = failedItems.stream().map(BulkResponseItem::id).collect(Collectors.toSet());
+            remaining = remaining.stream()
+                    .filter(doc -> failedIds.contains(doc.getId().toString()))
+                    .toList();
+            try {
+                Thread.sleep(retryBackoffMs * (attempt + 1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("재색인 _bulk 재시도 중 중단됨", e);
+            }
+        }
+    }
+
+    /**
+     * 현재 인덱스 매핑을 복사해 대량 색인용 설정으로 생성
+     */
+    private void createTargetIndex(String targetIndex) throws IOException {
+        TypeMapping mapping = null;
+        if (indexExists(ProductDocument.INDEX_NAME)) {
+            mapping = esClient.indices().getMapping(g -> g.index(ProductDocument.INDEX_NAME))
+                    .result().values().stream()
+                    .findFirst()
+                    .map(record -> record.mappings())
+                    .orElse(null);
+        }
+
+        TypeMapping copied = mapping;
+        esClient.indices().create(c -> {
+            c.index(targetIndex)
+                    .settings(s -> s
+                            .refreshInterval(t -> t.time("-1"))
+                            .numberOfReplicas("0"));
+            if (copied != null) c.mappings(copied);
+            return c;
+        });
+    }
+
+    /**
+     * 설정 복구 후 products alias를 새 인덱스로 원자적으로 교체
+     * - 기존이 alias가 아닌 실제 인덱스(최초 전환)면 remove_index로 같은 요청에서 제거
+     */
+    private void swapAlias(String targetIndex) throws IOException {
+        esClient.indices().putSettings(p -> p
+                .index(targetIndex)
+                .settings(s -> s
+                        .refreshInterval(t -> t.time("1s"))
+                        .numberOfReplicas(String.valueOf(replicas))));
+        esClient.indices().refresh(r -> r.index(targetIndex));
+
+        List<Action> actions = new ArrayList<>();
+        actions.add(Action.of(a -> a.add(add -> add.index(targetIndex).alias(ProductDocument.INDEX_NAME))));
+
+        boolean aliasExists = esClient.indices().existsAlias(e -> e.name(ProductDocument.INDEX_NAME)).value();
+        if (aliasExists) {
+            for (String oldIndex : esClient.indices().getAlias(g -> g.name(ProductDocument.INDEX_NAME)).result().keySet()) {
+                if (oldIndex.equals(targetIndex)) continue;
+                actions.add(Action.of(a -> a.remove(rm -> rm.index(oldIndex).alias(ProductDocument.INDEX_NAME))));
+            }
+        } else if (indexExists(ProductDocument.INDEX_NAME)) {
+            actions.add(Action.of(a -> a.removeIndex(rm -> rm.index(ProductDocument.INDEX_NAME))));
+        }
+
+        esClient.indices().updateAliases(u -> u.actions(actions));
+        log.info("products alias 교체 완료 → {}", targetIndex);
+    }
+
+    /**
+     * 재색인 중 이전 인덱스로만 반영된 변경분을 다시 큐에 넣는다
+     * (완료 이벤트 보관 기간 안에 끝난 작업만 보장)
+     */
+    private void requeueChangedSince(LocalDateTime since) {
+        List<Long> changed = outboxRepository.findProductIdsChangedSince(since);
+        if (!changed.isEmpty()) {
+            outboxService.appendAll(changed, ProductOutboxEventType.UPDATED);
+            log.info("재색인 중 변경된 상품 재반영 예약: {}건", changed.size());
+        }
+    }
+
+    private boolean indexExists(String index) throws IOException {
+        try {
+            return esClient.indices().exists(e -> e.index(index)).value();
+        } catch (ElasticsearchException e) {
+            return false;
+        }
+    }
+
+    private record PendingBulk(Long lastProductId, int size, CompletableFuture<Integer> future) {
+    }
+}
@@ -1,36 +1,45 @@
 package com.momnect.productservice.command.service;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
 import co.elastic.clients.elasticsearch._types.FieldValue;
 import co.elastic.clients.elasticsearch._types.SortOptions;
 import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregation;
 import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
 import co.elastic.clients.elasticsearch._types.query_dsl.NumberRangeQuery;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
 import co.elastic.clients.elasticsearch.core.search.Hit;
 import co.elastic.clients.json.JsonData;
-import com.momnect.productservice.command.client.FileClient;
+import com.momnect.productservice.command.cache.AreaIndex;
+import com.momnect.productservice.command.cache.ChildAgeBucketCache;
+import com.momnect.productservice.command.cache.ImagePathCache;
+import com.momnect.productservice.command.cache.SearchFacetCache;
+import com.momnect.productservice.command.cache.SimilarProductCache;
+import com.momnect.productservice.command.cache.SortedLongSet;
+import com.momnect.productservice.command.cache.WishlistIdCache;
 import com.momnect.productservice.command.client.ReviewClient;
 import com.momnect.productservice.command.client.UserClient;
 import com.momnect.productservice.command.client.dto.ChildDTO;
-import com.momnect.productservice.command.client.dto.ImageFileDTO;
 import com.momnect.productservice.command.client.dto.ReviewCountDTO;
 import com.momnect.productservice.command.client.dto.UserDTO;
 import com.momnect.productservice.command.document.ProductDocument;
 import com.momnect.productservice.command.dto.image.ProductImageDTO;
 import com.momnect.productservice.command.dto.product.*;
-import com.momnect.productservice.command.entity.area.Area;
-import com.momnect.productservice.command.entity.area.ProductTradeArea;
-import com.momnect.productservice.command.entity.area.ProductTradeAreaId;
 import com.momnect.productservice.command.entity.hashtag.Hashtag;
-import com.momnect.productservice.command.entity.hashtag.ProductHashtag;
-import com.momnect.productservice.command.entity.hashtag.ProductHashtagId;
 import com.momnect.productservice.command.entity.image.ProductImage;
-import com.momnect.productservice.command.entity.image.ProductImageId;
+import com.momnect.productservice.command.entity.outbox.ProductOutboxEventType;
 import com.momnect.productservice.command.entity.product.*;
+import com.momnect.productservice.command.entity.trade.UserTradeStats;
 import com.momnect.productservice.command.repository.*;
 import com.momnect.productservice.common.ApiResponse;
+import com.momnect.productservice.config.JdbcStatementCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -38,6 +47,8 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.io.IOException;
 import java.time.LocalDate;
@@ -45,28 +56,53 @@ import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ProductService {
 
-    private final FileClient fileClient;
+    // ES index.max_result_window 기본값
+    private static final int MAX_RESULT_WINDOW = 10_000;
+    private static final String PIT_KEEP_ALIVE = "1m";
+
+    private final ImagePathCache imagePathCache;
+    private final WishlistIdCache wishlistIdCache;
     private final UserClient userClient;
     private final ReviewClient reviewClient;
 
     private final ProductRepository productRepository;
     private final ProductCategoryRepository categoryRepository;
     private final ProductImageRepository productImageRepository;
-    private final AreaRepository areaRepository;
     private final ProductTradeAreaRepository productTradeAreaRepository;
-    private final HashtagRepository hashtagRepository;
+    private final AreaIndex areaIndex;
     private final WishlistRepository wishlistRepository;
+    private final ProductWishlistCountRepository wishlistCountRepository;
+    private final ProductLikeRanking productLikeRanking;
 
     private final ElasticsearchClient esClient;
+    private final ProductOutboxService outboxService;
+    private final ProductViewCounter productViewCounter;
+    private final ProductDetailFanout detailFanout;
+    private final ProductChildWriter productChildWriter;
+    private final TrendingHashtagService trendingHashtagService;
+    private final SearchFacetCache searchFacetCache;
+    private final ChildAgeBucketCache childAgeBucketCache;
+    private final SimilarProductCache similarProductCache;
+    private final UserTradeStatsService tradeStatsService;
+    private final MeterRegistry meterRegistry;
 
 
     @Value("${ftp.base-url}")
     private String ftpBaseUrl;
 
+    // 상품 기준 유사 상품 개수
+    @Value("${product.similar.size:12}")
+    private int similarSize;
+
+    // 상품 등록 statement 수 측정 (DataSource 래핑과 같은 설정, JdbcStatementCountConfig)
+    @Value("${product.jdbc-statement-count.enabled:false}")
+    private boolean countStatements;
+
     private String toAbsoluteUrl(String relativePath) {
         if (relativePath == null || relativePath.isEmpty()) return null;
         return ftpBaseUrl + relativePath;
@@ -74,32 +110,33 @@ public class ProductService {
 
     /**
      * 찜 추가
+     * - INSERT IGNORE(유니크 키) 한 번으로 중복 확인 + 저장, 실제로 추가된 경우에만 찜 수 증가
      */
+    @Transactional
     public void addWishlist(Long productId, Long userId) {
-        // 이미 존재하는 경우 중복 저장 방지
-        wishlistRepository.findByProductIdAndUserId(productId, userId)
-                .ifPresent(w -> {
-                    throw new IllegalStateException("이미 찜한 상품입니다.");
-                });
-
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다. id=" + productId));
-
-        Wishlist wishlist = Wishlist.builder()
-                .product(product)
-                .userId(userId)
-                .build();
+        if (wishlistRepository.insertIgnore(productId, userId) == 0) {
+            // 중복 찜이거나 (FK 무시로) 없는 상품
+            if (!productRepository.existsById(productId)) {
+                throw new IllegalArgumentException("상품을 찾을 수 없습니다. id=" + productId);
+            }
+            throw new IllegalStateException("이미 찜한 상품입니다.");
+        }
 
-        wishlistRepository.save(wishlist);
+        wishlistCountRepository.increment(productId);
+        wishlistIdCache.added(userId, productId);
     }
 
     /**
      * 찜 취소
      */
+    @Transactional
     public void removeWishlist(Long productId, Long userId) {
-        Wishlist wishlist = wishlistRepository.findByProductIdAndUserId(productId, userId)
-                .orElseThrow(() -> new IllegalArgumentException("찜한 내역이 없습니다."));
-        wishlistRepository.delete(wishlist);
+        if (wishlistRepository.deleteByProductIdAndUserId(productId, userId) == 0) {
+            throw new IllegalArgumentException("찜한 내역이 없습니다.");
+        }
+
+        wishlistCountRepository.decrement(productId);
+        wishlistIdCache.removed(userId, productId);
     }
 
     /**
@@ -107,16 +144,54 @@ public class ProductService {
      */
     @Transactional(readOnly = true)
     public List<ProductSummaryDto> getMyWishlist(Long userId) {
-        // 유저가 찜한 상품 목록 조회
-        List<Wishlist> wishlists = wishlistRepository.findAllByUserId(userId);
-
-        // Wishlist → Product 추출
-        List<Product> products = wishlists.stream()
-                .map(Wishlist::getProduct)
-                .toList();
+        // 유저가 찜한 상품 ID (찜한 순서) → 상품 일괄 조회
+        List<Long> productIds = wishlistRepository.findProductIdsByUserIdOrderById(userId);
 
         // 이미 로그인 유저 id가 있으므로 그대로 넘겨주면 inWishlist = true 처리됨
-        return toProductSummaryDtos(products, userId);
+        return getSummaries(productIds, userId);
+    }
+
+    /**
+     * 상품 기준 유사 상품 (more_like_this)
+     * - 상품 문서 자체의 name/content/hashtags로 유사도 검색, 같은 카테고리 + 판매 중 상품만
+     * - 결과 ID 목록은 상품별로 캐시 (색인 변경 시 디스패처가 무효화)
+     */
+    public List<ProductSummaryDto> getSimilarProductsOf(Long productId, Long userId) throws IOException {
+        List<Long> similarIds = similarProductCache.get(productId).orElse(null);
+        if (similarIds == null) {
+            Product product = productRepository.findById(productId)
+                    .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다. ID: " + productId));
+            Long categoryId = product.getCategory().getId();
+
+            SearchResponse<ProductDocument> response = esClient.search(s -> s
+                            .index(ProductDocument.INDEX_NAME)
+                            .size(similarSize)
+                            .source(src -> src.fetch(false))
+                            .query(q -> q.bool(b -> b
+                                    .must(m -> m.moreLikeThis(mlt -> mlt
+                                            .fields("name", "content", "hashtags")
+                                            .like(l -> l.document(d -> d
+                                                    .index(ProductDocument.INDEX_NAME)
+                                                    .id(productId.toString())))
+                                            .minTermFreq(1)
+                                            .minDocFreq(1)
+                                            .maxQueryTerms(25)))
+                                    .filter(f -> f.term(t -> t.field("categoryId").value(categoryId)))
+                                    .filter(f -> f.term(t -> t.field("isDeleted").value(false)))
+                                    .mustNot(m -> m.term(t -> t.field("tradeStatus").value("SOLD"))))),
+                    ProductDocument.class);
+
+            similarIds = response.hits().hits().stream()
+                    .map(hit -> Long.valueOf(hit.id()))
+                    .toList();
+            similarProductCache.put(productId, similarIds);
+        }
+
+        // 캐시된 사이에 판매완료/삭제된 상품은 제외
+        return getSummaries(similarIds, userId).stream()
+                .filter(dto -> !Boolean.TRUE.equals(dto.getIsDeleted())
+                        && !TradeStatus.SOLD.name().equals(dto.getTradeStatus()))
+                .toList();
     }
 
     /**
@@ -140,16 +215,14 @@ public class ProductService {
 
         // 실행
         SearchResponse<ProductDocument> response = esClient.search(s -> s
-                        .index("products")
+                        .index(ProductDocument.INDEX_NAME)
                         .size(30)
                         .query(q -> q.bool(boolQuery.build()))
                         .sort(o -> o.field(f -> f.field("createdAt").order(SortOrder.Desc))),
                 ProductDocument.class);
 
         // 현재 유저가 찜한 상품들
-        Set<Long> wishlistIds = (userId != null)
-                ? wishlistRepository.findProductIdsByUserId(userId)
-                : Collections.emptySet();
+        SortedLongSet wishlistIds = wishlistIdCache.get(userId);
 
         // 변환
         return response.hits().hits().stream()
@@ -214,42 +287,12 @@ public class ProductService {
      * - 없거나 자녀정보가 없으면 기존 "찜수 TOP N → 인기 Top30" 로직 유지
      */
     public List<ProductSummaryDto> getRecommendedTop30(Long userId) {
-        // 1) userId 있으면 자녀정보로 연령대 버킷 수집 (별도 함수 없이 이 메서드 안에서 처리)
-        Set<RecommendedAge> ageBuckets = new HashSet<>();
-        if (userId != null) {
-            try {
-                ApiResponse<List<ChildDTO>> resp = userClient.getChildren();
-
-                List<ChildDTO> children =
-                        Optional.ofNullable(resp)
-                                .map(com.momnect.productservice.common.ApiResponse::getData)
-                                .orElse(java.util.Collections.emptyList());
-
-                System.out.println("children: " + children);
-
-                LocalDate today = java.time.LocalDate.now();
-                for (var child : children) {
-                    LocalDate birthDate = child.getBirthDate();
-                    long months = ChronoUnit.MONTHS.between(birthDate, today);
-                    long years = ChronoUnit.YEARS.between(birthDate, today);
-                    if (months >= 0) {
-                        if (months < 6) ageBuckets.add(RecommendedAge.MONTH_0_6);
-                        else if (months < 12) ageBuckets.add(RecommendedAge.MONTH_6_12);
-                        else if (years < 2) ageBuckets.add(RecommendedAge.YEAR_1_2);
-                        else if (years < 4) ageBuckets.add(RecommendedAge.YEAR_2_4);
-                        else if (years < 6) ageBuckets.add(RecommendedAge.YEAR_4_6);
-                        else if (years < 8) ageBuckets.add(RecommendedAge.YEAR_6_8);
-                        else ageBuckets.add(RecommendedAge.OVER_8);
-                    }
-                }
-            } catch (Exception ignore) {
-                // 유저서비스 실패 시 필터 없이 아래 랭킹 로직으로 폴백
-            }
-        }
+        // 1) userId 있으면 자녀정보로 연령대 버킷 수집
+        Set<RecommendedAge> ageBuckets = resolveChildAgeBuckets(userId);
 
         // ageBuckets가 비어있지 않은 경우
         if (!ageBuckets.isEmpty()) {
-            System.out.println("자녀 추천 -- ageBuckets: " + ageBuckets);
+            log.debug("자녀 추천 ageBuckets={}", ageBuckets);
 
             // IN 한 번에 조회 (DB에서 createdAt DESC → viewCount DESC 정렬까지 처리)
             List<Product> candidates =
@@ -267,17 +310,8 @@ public class ProductService {
         }
 
         // 3) 기존 랭킹 로직 (찜수 TOP N → 인기 Top30)
-        java.util.List<Long> topLikeIds = wishlistRepository.findTopProductIdsByLikeCount(org.springframework.data.domain.PageRequest.of(0, 30));
-        if (!topLikeIds.isEmpty()) {
-            java.util.List<Product> likeRanked = productRepository.findByIdIn(topLikeIds).stream()
-                    .filter(p -> !java.lang.Boolean.TRUE.equals(p.getIsDeleted()) && p.getTradeStatus() != TradeStatus.SOLD)
-                    .toList();
-
-            java.util.Map<Long, Integer> order = new java.util.HashMap<>();
-            for (int i = 0; i < topLikeIds.size(); i++) order.put(topLikeIds.get(i), i);
-
-            likeRanked = new java.util.ArrayList<>(likeRanked);
-            likeRanked.sort(java.util.Comparator.comparingInt(p -> order.getOrDefault(p.getId(), Integer.MAX_VALUE)));
+        List<Product> likeRanked = findLikeRankedProducts(30);
+        if (!likeRanked.isEmpty()) {
             return toProductSummaryDtos(likeRanked, userId);
         }
 
@@ -285,10 +319,334 @@ public class ProductService {
         return getPopularTop30(userId);
     }
 
+    /**
+     * 로그인 유저의 자녀 생년월일로 추천 연령대 버킷 계산
+     * - 비로그인/자녀 없음/유저서비스 실패 시 빈 Set
+     * - 유저별로 캐시해 홈 요청마다 유저서비스를 호출하지 않음 (실패 결과는 캐시하지 않음)
+     */
+    public Set<RecommendedAge> resolveChildAgeBuckets(Long userId) {
+        if (userId == null) {
+            return Set.of();
+        }
+        Set<RecommendedAge> cached = childAgeBucketCache.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        Set<RecommendedAge> ageBuckets = new HashSet<>();
+        try {
+            ApiResponse<List<ChildDTO>> resp = userClient.getChildren();
+
+            List<ChildDTO> children =
+                    Optional.ofNullable(resp)
+                            .map(com.momnect.productservice.common.ApiResponse::getData)
+                            .orElse(java.util.Collections.emptyList());
+
+            log.debug("children userId={} count={}", userId, children.size());
+
+            LocalDate today = java.time.LocalDate.now();
+            for (var child : children) {
+                LocalDate birthDate = child.getBirthDate();
+                long months = ChronoUnit.MONTHS.between(birthDate, today);
+                long years = ChronoUnit.YEARS.between(birthDate, today);
+                if (months >= 0) {
+                    if (months < 6) ageBuckets.add(RecommendedAge.MONTH_0_6);
+                    else if (months < 12) ageBuckets.add(RecommendedAge.MONTH_6_12);
+                    else if (years < 2) ageBuckets.add(RecommendedAge.YEAR_1_2);
+                    else if (years < 4) ageBuckets.add(RecommendedAge.YEAR_2_4);
+                    else if (years < 6) ageBuckets.add(RecommendedAge.YEAR_4_6);
+                    else if (years < 8) ageBuckets.add(RecommendedAge.YEAR_6_8);
+                    else ageBuckets.add(RecommendedAge.OVER_8);
+                }
+            }
+        } catch (Exception ignore) {
+            // 유저서비스 실패 시 필터 없이 랭킹 로직으로 폴백
+            return ageBuckets;
+        }
+        childAgeBucketCache.put(userId, ageBuckets);
+        return ageBuckets;
+    }
+
+    /**
+     * 찜수 TOP N 상품 (찜수 순서 유지, 삭제/판매완료 제외)
+     */
+    public List<Product> findLikeRankedProducts(int limit) {
+        List<Long> topLikeIds = productLikeRanking.topProductIds();
+        if (topLikeIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Product> likeRanked = new ArrayList<>(productRepository.findByIdIn(topLikeIds).stream()
+                .filter(p -> !Boolean.TRUE.equals(p.getIsDeleted()) && p.getTradeStatus() != TradeStatus.SOLD)
+                .toList());
+
+        Map<Long, Integer> order = new HashMap<>();
+        for (int i = 0; i < topLikeIds.size(); i++) order.put(topLikeIds.get(i), i);
+
+        likeRanked.sort(Comparator.comparingInt(p -> order.getOrDefault(p.getId(), Integer.MAX_VALUE)));
+        return likeRanked.size() > limit ? likeRanked.subList(0, limit) : likeRanked;
+    }
+
     public Page<ProductSummaryDto> searchProducts(ProductSearchRequest request, Long userId) throws IOException {
         int page = request.getPage() != null ? request.getPage() : 0;
         int size = request.getSize() != null ? request.getSize() : 20;
 
+        // from/size는 max_result_window(10,000)까지만 가능 → 그 이후는 커서 모드
+        if ((long) (page + 1) * size > MAX_RESULT_WINDOW) {
+            throw new IllegalArgumentException("페이지 범위를 초과했습니다. 커서 검색(/products/search/cursor)을 사용하세요.");
+        }
+
+        Query query = buildSearchQuery(request);
+
+        // 첫 페이지 검색어만 트렌딩 집계
+        if (page == 0) {
+            trendingHashtagService.recordSearch(request.getQuery());
+        }
+
+        // 검색 실행
+        SearchResponse<ProductDocument> response = esClient.search(s -> s
+                        .index(ProductDocument.INDEX_NAME)
+                        .from(page * size)
+                        .size(size)
+                        .query(query)
+                        .sort(buildSearchSort(request.getSort())),
+                ProductDocument.class);
+
+        List<ProductSummaryDto> contents = toSearchSummaries(response.hits().hits(), userId);
+
+        return new PageImpl<>(contents, PageRequest.of(page, size), response.hits().total().value());
+    }
+
+    /**
+     * facet 집계 포함 검색 (ES 1회 왕복)
+     * - facet 조건(카테고리/가격/연령대/상태)은 post_filter로 결과에만 적용
+     * - 각 facet 집계는 자기 자신을 뺀 나머지 facet 조건으로 filter aggregation → 선택해도 다른 값 건수가 유지됨
+     * - 검색어 없는 카테고리 브라우즈는 facet 결과를 캐시하고, 캐시가 있으면 집계 없이 결과만 조회
+     */
+    public ProductFacetedSearchResponse searchProductsWithFacets(ProductSearchRequest request, Long userId) throws IOException {
+        int page = request.getPage() != null ? request.getPage() : 0;
+        int size = request.getSize() != null ? request.getSize() : 20;
+        int priceInterval = request.getPriceInterval() != null && request.getPriceInterval() > 0
+                ? request.getPriceInterval() : 10_000;
+
+        if ((long) (page + 1) * size > MAX_RESULT_WINDOW) {
+            throw new IllegalArgumentException("페이지 범위를 초과했습니다. 커서 검색(/products/search/cursor)을 사용하세요.");
+        }
+
+        Query baseQuery = Query.of(q -> q.bool(buildBaseSearchQuery(request).build()));
+        Map<SearchFacet, Query> facetFilters = buildFacetFilters(request);
+
+        if (page == 0) {
+            trendingHashtagService.recordSearch(request.getQuery());
+        }
+
+        boolean browse = request.getQuery() == null || request.getQuery().isBlank();
+        String cacheKey = browse ? facetCacheKey(request, priceInterval) : null;
+        ProductSearchFacets cachedFacets = cacheKey != null ? searchFacetCache.get(cacheKey) : null;
+
+        SearchResponse<ProductDocument> response = esClient.search(s -> {
+            s.index(ProductDocument.INDEX_NAME)
+                    .from(page * size)
+                    .size(size)
+                    .query(baseQuery)
+                    .sort(buildSearchSort(request.getSort()));
+            if (!facetFilters.isEmpty()) {
+                s.postFilter(allOf(facetFilters.values()));
+            }
+            if (cachedFacets == null) {
+                for (SearchFacet facet : SearchFacet.values()) {
+                    s.aggregations(facet.name(), facetAggregation(facet, facetFilters, priceInterval));
+                }
+            }
+            return s;
+        }, ProductDocument.class);
+
+        ProductSearchFacets facets = cachedFacets;
+        if (facets == null) {
+            facets = toSearchFacets(response.aggregations(), priceInterval);
+            if (cacheKey != null) searchFacetCache.put(cacheKey, facets);
+        }
+
+        List<ProductSummaryDto> contents = toSearchSummaries(response.hits().hits(), userId);
+
+        return ProductFacetedSearchResponse.builder()
+                .results(new PageImpl<>(contents, PageRequest.of(page, size), response.hits().total().value()))
+                .facets(facets)
+                .build();
+    }
+
+    private enum SearchFacet {
+        CATEGORY, PRICE, RECOMMENDED_AGE, PRODUCT_STATUS
+    }
+
+    // 자기 자신을 제외한 facet 조건으로 감싼 집계
+    private Aggregation facetAggregation(SearchFacet facet, Map<SearchFacet, Query> facetFilters, int priceInterval) {
+        List<Query> others = facetFilters.entrySet().stream()
+                .filter(e -> e.getKey() != facet)
+                .map(Map.Entry::getValue)
+                .toList();
+
+        Aggregation values = switch (facet) {
+            case CATEGORY -> Aggregation.of(a -> a.terms(t -> t.field("categoryId").size(200)));
+            case RECOMMENDED_AGE -> Aggregation.of(a -> a.terms(t -> t.field("recommendedAge.keyword").size(20)));
+            case PRODUCT_STATUS -> Aggregation.of(a -> a.terms(t -> t.field("productStatus.keyword").size(20)));
+            case PRICE -> Aggregation.of(a -> a.histogram(h -> h.field("price").interval((double) priceInterval).minDocCount(1)));
+        };
+
+        return Aggregation.of(a -> a
+                .filter(others.isEmpty() ? Query.of(q -> q.matchAll(m -> m)) : allOf(others))
+                .aggregations("values", values));
+    }
+
+    private static Query allOf(Collection<Query> filters) {
+        return Query.of(q -> q.bool(b -> b.filter(List.copyOf(filters))));
+    }
+
+    private static ProductSearchFacets toSearchFacets(Map<String, Aggregate> aggregations, int priceInterval) {
+        return ProductSearchFacets.builder()
+                .categories(aggregations.get(SearchFacet.CATEGORY.name()).filter().aggregations().get("values")
+                        .lterms().buckets().array().stream()
+                        .map(b -> ProductSearchFacets.Bucket.builder().key(String.valueOf(b.key())).count(b.docCount()).build())
+                        .toList())
+                .recommendedAges(toKeywordBuckets(aggregations.get(SearchFacet.RECOMMENDED_AGE.name())))
+                .productStatuses(toKeywordBuckets(aggregations.get(SearchFacet.PRODUCT_STATUS.name())))
+                .priceHistogram(aggregations.get(SearchFacet.PRICE.name()).filter().aggregations().get("values")
+                        .histogram().buckets().array().stream()
+                        .map(b -> ProductSearchFacets.PriceBucket.builder()
+                                .from((int) b.key())
+                                .to((int) b.key() + priceInterval)
+                                .count(b.docCount())
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    private static List<ProductSearchFacets.Bucket> toKeywordBuckets(Aggregate facet) {
+        return facet.filter().aggregations().get("values")
+                .sterms().buckets().array().stream()
+                .map(b -> ProductSearchFacets.Bucket.builder().key(b.key().stringValue()).count(b.docCount()).build())
+                .toList();
+    }
+
+    // facet 결과가 달라지는 조건 전체 (정렬/페이지는 제외)
+    private static String facetCacheKey(ProductSearchRequest request, int priceInterval) {
+        return String.join("|",
+                String.valueOf(request.getCategoryId()),
+                String.valueOf(request.getPriceMin()),
+                String.valueOf(request.getPriceMax()),
+                sortedKey(request.getAgeGroups()),
+                sortedKey(request.getStatuses()),
+                sortedKey(request.getAreaIds()),
+                String.valueOf(Boolean.TRUE.equals(request.getExcludeSoldOut())),
+                String.valueOf(priceInterval));
+    }
+
+    private static String sortedKey(@Nullable Collection<?> values) {
+        if (values == null || values.isEmpty()) return "";
+        return values.stream().map(String::valueOf).sorted().distinct().collect(Collectors.joining(","));
+    }
+
+    /**
+     * 커서(search_after) 기반 검색
+     * - 정렬값 + id 타이브레이커로 다음 페이지 위치를 잡으므로 깊이에 상관없이 일정한 비용
+     * - usePit=true면 첫 요청에서 PIT를 열고 커서에 담아, 스크롤 중 색인 변경에도 결과가 흔들리지 않게 한다
+     * - 마지막 페이지에서 PIT를 닫고 nextCursor는 null
+     */
+    public ProductCursorPage searchProductsByCursor(ProductSearchRequest request, Long userId) throws IOException {
+        int size = request.getSize() != null ? request.getSize() : 20;
+        SortOption sort = request.getSort() != null ? request.getSort() : SortOption.LATEST;
+
+        ProductSearchCursor cursor = null;
+        if (request.getCursor() != null && !request.getCursor().isBlank()) {
+            cursor = ProductSearchCursor.decode(request.getCursor());
+            if (cursor.getSort() != sort) {
+                throw new IllegalArgumentException("커서와 정렬 조건이 일치하지 않습니다.");
+            }
+        } else {
+            // 첫 페이지 검색어만 트렌딩 집계
+            trendingHashtagService.recordSearch(request.getQuery());
+        }
+
+        String pitId = cursor != null ? cursor.getPitId() : null;
+        if (cursor == null && Boolean.TRUE.equals(request.getUsePit())) {
+            pitId = esClient.openPointInTime(o -> o
+                    .index(ProductDocument.INDEX_NAME)
+                    .keepAlive(t -> t.time(PIT_KEEP_ALIVE))).id();
+        }
+
+        Query query = buildSearchQuery(request);
+        List<FieldValue> searchAfter = cursor != null ? cursor.toFieldValues() : null;
+        String currentPitId = pitId;
+
+        SearchResponse<ProductDocument> response;
+        try {
+            response = esClient.search(s -> {
+                s.size(size + 1) // 다음 페이지 존재 여부 확인용 1건 추가
+                        .query(query)
+                        .sort(buildSearchSort(sort))
+                        .trackTotalHits(t -> t.enabled(false));
+                if (currentPitId != null) {
+                    s.pit(p -> p.id(currentPitId).keepAlive(t -> t.time(PIT_KEEP_ALIVE)));
+                } else {
+                    s.index(ProductDocument.INDEX_NAME);
+                }
+                if (searchAfter != null) {
+                    s.searchAfter(searchAfter);
+                }
+                return s;
+            }, ProductDocument.class);
+        } catch (ElasticsearchException e) {
+            if (currentPitId != null && e.status() == 404) {
+                throw new IllegalArgumentException("검색 커서가 만료되었습니다. 처음부터 다시 검색해 주세요.");
+            }
+            throw e;
+        }
+
+        List<Hit<ProductDocument>> hits = response.hits().hits();
+        boolean hasNext = hits.size() > size;
+        List<Hit<ProductDocument>> pageHits = hasNext ? hits.subList(0, size) : hits;
+
+        // ES가 PIT id를 갱신해 돌려줄 수 있으므로 응답 값을 우선
+        String nextPitId = response.pitId() != null ? response.pitId() : currentPitId;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Hit<ProductDocument> last = pageHits.get(pageHits.size() - 1);
+            nextCursor = ProductSearchCursor.of(sort, last.sort(), nextPitId).encode();
+        } else if (nextPitId != null) {
+            closePointInTime(nextPitId);
+        }
+
+        return ProductCursorPage.builder()
+                .content(toSearchSummaries(pageHits, userId))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .size(size)
+                .build();
+    }
+
+    private void closePointInTime(String pitId) {
+        try {
+            esClient.closePointInTime(c -> c.id(pitId));
+        } catch (Exception e) {
+            // keep_alive가 지나면 ES가 알아서 정리
+            log.debug("PIT 종료 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 검색 조건 → ES BoolQuery
+     */
+    private Query buildSearchQuery(ProductSearchRequest request) {
+        BoolQuery.Builder boolQuery = buildBaseSearchQuery(request);
+        buildFacetFilters(request).values().forEach(boolQuery::must);
+        return Query.of(q -> q.bool(boolQuery.build()));
+    }
+
+    /**
+     * facet 대상이 아닌 검색 조건 (삭제 여부, 판매완료 제외, 키워드, 지역)
+     */
+    private BoolQuery.Builder buildBaseSearchQuery(ProductSearchRequest request) {
         // 필수값 검증 (query 또는 categoryId는 반드시 하나 필요)
         if ((request.getQuery() == null || request.getQuery().isBlank())
                 && request.getCategoryId() == null) {
@@ -312,9 +670,34 @@ public class ProductService {
                     .minimumShouldMatch("1");
         }
 
-        // 카테고리
+        // 지역 (시도/시군구/읍면동 어느 레벨이든 조상 경로 필드로 매칭)
+        // tradeAreaIds 조건은 경로 필드가 색인되기 전(재색인 전) 문서용
+        if (request.getAreaIds() != null && !request.getAreaIds().isEmpty()) {
+            List<FieldValue> areaValues = request.getAreaIds().stream()
+                    .map(FieldValue::of)
+                    .toList();
+            boolQuery.must(m -> m.bool(b -> b
+                    .should(s -> s.terms(t -> t.field("tradeAreaPathIds").terms(ts -> ts.value(areaValues))))
+                    .should(s -> s.terms(t -> t.field("tradeAreaIds").terms(ts -> ts.value(areaValues))))
+                    .minimumShouldMatch("1")));
+        }
+
+        return boolQuery;
+    }
+
+    /**
+     * facet 조건별 필터 (카테고리, 가격, 추천 연령대, 상태) - 지정된 조건만
+     */
+    private Map<SearchFacet, Query> buildFacetFilters(ProductSearchRequest request) {
+        Map<SearchFacet, Query> filters = new EnumMap<>(SearchFacet.class);
+
+        // 카테고리 (상위 카테고리 선택 시 하위 카테고리 상품 포함)
+        // categoryId 조건은 경로 필드가 색인되기 전(재색인 전) 문서용
         if (request.getCategoryId() != null) {
-            boolQuery.must(m -> m.term(t -> t.field("categoryId").value(request.getCategoryId())));
+            filters.put(SearchFacet.CATEGORY, Query.of(m -> m.bool(b -> b
+                    .should(s -> s.term(t -> t.field("categoryPathIds").value(request.getCategoryId())))
+                    .should(s -> s.term(t -> t.field("categoryId").value(request.getCategoryId())))
+                    .minimumShouldMatch("1"))));
         }
 
         // 가격 범위 (NumberRangeQuery 사용)
@@ -328,40 +711,36 @@ public class ProductService {
                 priceRange.lte(request.getPriceMax().doubleValue());
             }
 
-            boolQuery.must(m -> m.range(r -> r.number(priceRange.build())));
+            filters.put(SearchFacet.PRICE, Query.of(m -> m.range(r -> r.number(priceRange.build()))));
         }
 
         // 추천 연령대 (enum → name)
         if (request.getAgeGroups() != null && !request.getAgeGroups().isEmpty()) {
-            boolQuery.must(m -> m.terms(t -> t.field("recommendedAge.keyword")
+            filters.put(SearchFacet.RECOMMENDED_AGE, Query.of(m -> m.terms(t -> t.field("recommendedAge.keyword")
                     .terms(ts -> ts.value(request.getAgeGroups().stream()
                             .map(Enum::name)
                             .map(FieldValue::of)
-                            .toList()))));
-        }
-
-        // 지역
-        if (request.getAreaIds() != null && !request.getAreaIds().isEmpty()) {
-            boolQuery.must(m -> m.terms(t -> t.field("tradeAreaIds")
-                    .terms(ts -> ts.value(request.getAreaIds().stream()
-                            .map(FieldValue::of)
-                            .toList()))));
+                            .toList())))));
         }
 
         // 상태 (NEW, USED)
         if (request.getStatuses() != null && !request.getStatuses().isEmpty()) {
-            boolQuery.must(m -> m.terms(t -> t.field("productStatus.keyword")
+            filters.put(SearchFacet.PRODUCT_STATUS, Query.of(m -> m.terms(t -> t.field("productStatus.keyword")
                     .terms(ts -> ts.value(request.getStatuses().stream()
                             .map(Enum::name)
                             .map(v -> FieldValue.of(JsonData.of(v)))
-                            .toList()))));
+                            .toList())))));
         }
 
-        // 정렬 옵션 매핑
+        return filters;
+    }
+
+    /**
+     * 정렬 옵션 매핑 (+ id 타이브레이커: 같은 정렬값끼리 순서를 고정해 커서가 건너뛰거나 중복되지 않게)
+     */
+    private List<SortOptions> buildSearchSort(SortOption sort) {
         SortOptions sortOption;
-        switch (request.getSort()) {
-            case LATEST -> sortOption = new SortOptions.Builder()
-                    .field(f -> f.field("createdAt").order(SortOrder.Desc)).build();
+        switch (sort != null ? sort : SortOption.LATEST) {
             case PRICE_ASC -> sortOption = new SortOptions.Builder()
                     .field(f -> f.field("price").order(SortOrder.Asc)).build();
             case PRICE_DESC -> sortOption = new SortOptions.Builder()
@@ -369,24 +748,18 @@ public class ProductService {
             default -> sortOption = new SortOptions.Builder()
                     .field(f -> f.field("createdAt").order(SortOrder.Desc)).build();
         }
+        SortOptions tiebreaker = new SortOptions.Builder()
+                .field(f -> f.field("id").order(SortOrder.Desc)).build();
+        return List.of(sortOption, tiebreaker);
+    }
 
-        // 검색 실행
-        SearchResponse<ProductDocument> response = esClient.search(s -> s
-                        .index("products")
-                        .from(page * size)
-                        .size(size)
-                        .query(q -> q.bool(boolQuery.build()))
-                        .sort(sortOption),
-                ProductDocument.class);
-
-        Set<Long> wishlistProductIds;
-        if (userId != null) {
-            wishlistProductIds = wishlistRepository.findProductIdsByUserId(userId);
-        } else {
-            wishlistProductIds = Collections.emptySet();
-        }
+    /**
+     * 검색 결과 → 요약 DTO (찜 여부, 썸네일 절대 URL)
+     */
+    private List<ProductSummaryDto> toSearchSummaries(List<Hit<ProductDocument>> hits, Long userId) {
+        SortedLongSet wishlistProductIds = wishlistIdCache.get(userId);
 
-        List<ProductSummaryDto> contents = response.hits().hits().stream()
+        return hits.stream()
                 .map(Hit::source)
                 .filter(Objects::nonNull)
                 .map(doc -> {
@@ -405,8 +778,6 @@ public class ProductService {
                     return dto;
                 })
                 .toList();
-
-        return new PageImpl<>(contents, PageRequest.of(page, size), response.hits().total().value());
     }
 
 
@@ -421,10 +792,7 @@ public class ProductService {
      */
     @Transactional(readOnly = true)
     public List<ProductSummaryDto> getProductsByIds(List<Long> productIds, Long userId) {
-        // 상품 조회
-        List<Product> products = productRepository.findAllById(productIds);
-
-        return toProductSummaryDtos(products, userId);
+        return getSummaries(productIds, userId);
 
 //        // 상품 이미지 매핑 : productId -> 첫 번째 이미지 ID
 //        Map<Long, Long> productImageIdMap = products.stream()
@@ -499,123 +867,160 @@ public class ProductService {
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다. ID: " + productId));
 
-        // 2. 판매자 정보 조회 + 거래/리뷰 데이터 보강
+        // 조회수 기록 (메모리 카운터, DB 반영은 주기적으로)
+        productViewCounter.record(productId, userId);
+
         Long sellerId = product.getSellerId();
-        UserDTO sellerInfo = getSellerInfo(sellerId);
+        List<ProductImage> productImages = product.getProductImages().stream()
+                .sorted(Comparator.comparingInt(ProductImage::getSortOrder))
+                .toList();
+        List<Long> imageIds = productImages.stream()
+                .map(img -> img.getId().getImageFileId())
+                .toList();
 
-        // 3. 판매자의 최신 상품 3개 DTO 변환
-        List<Product> sellerProducts = productRepository.findTop3BySellerIdOrderByCreatedAtDesc(sellerId);
-        List<ProductSummaryDto> latestProductDtos = toProductSummaryDtos(sellerProducts, userId);
+        // 2. 원격 호출만 병렬로 (마감 시간 초과/실패 시 fallback)
+        //    DB 조회는 요청 스레드의 커넥션으로 → 풀 스레드가 커넥션을 따로 기다리지 않음
+        ProductDetailFanout.Fanout fanout = detailFanout.start();
+        ProductDetailFanout.Branch<UserDTO> seller = fanout.submit("seller",
+                () -> Optional.ofNullable(userClient.getUserInfo(sellerId).getData())
+                        .orElseThrow(() -> new IllegalStateException("판매자 정보 없음: " + sellerId)),
+                UserDTO.builder().id(sellerId).build());
+        ProductDetailFanout.Branch<Integer> reviewCount = fanout.submit("reviewCount",
+                () -> {
+                    ReviewCountDTO resp = reviewClient.getReceivedReviewCount(sellerId);
+                    return (resp != null) ? resp.getCount() : 0;
+                },
+                0);
+
+        // 판매자 최근 상품 (인덱스 조회) → 대표 이미지 경로는 현재 상품 이미지와 함께 file-service 1회
+        SummaryRows sellerRows = loadSummaryRows(productRepository.findTop3BySellerIdOrderByCreatedAtDesc(sellerId));
+        List<Long> pathIds = new ArrayList<>(imageIds);
+        pathIds.addAll(sellerRows.thumbnailIds().values());
+        ProductDetailFanout.Branch<Map<Long, String>> imagePaths = fanout.submit("images",
+                () -> resolveImagePaths(pathIds),
+                Map.of());
+
+        // 3. 거래 수 / 찜 여부 / 상품 찜 수 (PK 조회 / 캐시라 요청 스레드에서)
+        UserTradeStats stats = tradeStatsService.get(sellerId);
+        boolean inWishlist = wishlistIdCache.contains(userId, productId);
+        long wishlistCount = wishlistCountRepository.findById(productId)
+                .map(ProductWishlistCount::getWishlistCount)
+                .orElse(0);
+
+        // 4. 판매자 정보 + 거래/리뷰 데이터 보강
+        UserDTO sellerInfo = seller.join();
+        sellerInfo.setTradeCount(stats.getSoldCount() + stats.getPurchasedCount());
+        sellerInfo.setReviewCount(reviewCount.join());
+
+        // 5. 현재 상품 이미지 전체 DTO 변환
+        Map<Long, String> paths = imagePaths.join();
+        List<ProductImageDTO> images = productImages.stream()
+                .map(img -> ProductImageDTO.builder()
+                        .imageFileId(img.getId().getImageFileId())
+                        .sortOrder(img.getSortOrder())
+                        .url(toAbsoluteUrl(paths.get(img.getId().getImageFileId())))
+                        .build())
+                .toList();
 
-        // 4. 현재 상품 이미지 전체 DTO 변환
-        List<ProductImageDTO> images = toProductImageDtos(product);
+        List<ProductSummaryDto> latestProductDtos = toProductSummaryDtos(sellerRows, paths, userId);
 
-        // 5. 찜 여부 및 상품 찜 수
-        boolean inWishlist = false;
-        if (userId != null) {
-            inWishlist = wishlistRepository.existsByUserIdAndProductId(userId, productId);
-        }
-        long wishlistCount = wishlistRepository.countByProductId(productId);
+        // 6. 최종 DTO 반환 (조회수는 아직 반영 전인 누적분 포함)
+        ProductDTO currentProduct = ProductDTO.fromEntity(product, images, (int) wishlistCount, inWishlist);
+        currentProduct.setViewCount((int) (product.getViewCount() + productViewCounter.pendingCount(productId)));
 
-        // 6. 최종 DTO 반환
         return ProductDetailDTO.builder()
-                .currentProduct(ProductDTO.fromEntity(product, images, (int) wishlistCount, inWishlist))
+                .currentProduct(currentProduct)
                 .sellerInfo(sellerInfo)
                 .sellerRecentProducts(latestProductDtos)
+                .partial(fanout.isPartial())
+                .missingSections(fanout.missingSections())
                 .build();
     }
 
-
-    // 판매자 정보 조회
-    private UserDTO getSellerInfo(Long sellerId) {
-        ApiResponse<UserDTO> sellerResponse = userClient.getUserInfo(sellerId);
-        UserDTO sellerInfo = sellerResponse.getData();
-
-        Integer tradeCount =
-                productRepository.countByTradeStatusAndSellerIdOrBuyerId(TradeStatus.SOLD, sellerId, sellerId);
-        // TODO: 리뷰 API 연동
-        Integer reviewCount = 0;
-        try {
-            ReviewCountDTO resp = reviewClient.getReceivedReviewCount(sellerId);
-            reviewCount = (resp != null) ? resp.getCount() : 0;
-        } catch (Exception e) {
-            // 실패 시 안전하게 0으로 fallback
-            reviewCount = 0;
-        }
-
-        sellerInfo.setTradeCount(tradeCount);
-        sellerInfo.setReviewCount(reviewCount);
-
-        return sellerInfo;
-    }
-
-    // 상품 요약 정보 리스트로 변환
+    /**
+     * 상품 요약 정보 리스트로 변환
+     * - 상품 엔티티의 지연 컬렉션(이미지/거래지역)은 건드리지 않고, 목록 단위로 고정 횟수만 조회
+     *   대표 이미지 ID 1회 + 대표 거래지역 ID 1회 (+ 이미지 경로 캐시 미스분 file-service 1회)
+     * - 지역명은 메모리 지역 인덱스에서 조회
+     */
     public List<ProductSummaryDto> toProductSummaryDtos(
             List<Product> products,
             @Nullable Long loginUserId
     ) {
         if (products.isEmpty()) return List.of();
 
-        // 썸네일 추출
-        Map<Long, Long> productToThumbnailId = products.stream()
-                .collect(Collectors.toMap(
-                        Product::getId,
-                        p -> p.getProductImages().stream()
-                                .min(Comparator.comparingInt(ProductImage::getSortOrder))
-                                .orElseThrow(() -> new IllegalStateException("상품 이미지 없음: " + p.getId()))
-                                .getId()
-                                .getImageFileId()
-                ));
+        SummaryRows rows = loadSummaryRows(products);
+        // 이미지 경로 조회 (캐시)
+        return toProductSummaryDtos(rows, resolveImagePaths(rows.thumbnailIds().values()), loginUserId);
+    }
+
+    /** 요약 변환에 필요한 DB 조회 결과 (상품별 대표 이미지 ID, 대표 거래지역 읍면동명) */
+    private record SummaryRows(List<Product> products, Map<Long, Long> thumbnailIds, Map<Long, String> emds) {
+    }
+
+    private SummaryRows loadSummaryRows(List<Product> products) {
+        if (products.isEmpty()) return new SummaryRows(List.of(), Map.of(), Map.of());
+
+        List<Long> productIds = products.stream().map(Product::getId).toList();
+
+        // 대표 이미지 ID
+        Map<Long, Long> productToThumbnailId = new HashMap<>();
+        for (Object[] row : productImageRepository.findThumbnailImageIds(productIds)) {
+            productToThumbnailId.putIfAbsent((Long) row[0], (Long) row[1]);
+        }
+
+        // 대표 거래지역 읍면동명
+        Map<Long, String> productToEmd = new HashMap<>();
+        for (Object[] row : productTradeAreaRepository.findFirstAreaIds(productIds)) {
+            areaIndex.get((Integer) row[1])
+                    .ifPresent(area -> productToEmd.put((Long) row[0], area.name()));
+        }
+        return new SummaryRows(products, productToThumbnailId, productToEmd);
+    }
 
-        // FileClient 조회
-        Map<Long, String> paths = resolveImagePaths(productToThumbnailId.values());
+    private List<ProductSummaryDto> toProductSummaryDtos(SummaryRows rows, Map<Long, String> paths,
+                                                         @Nullable Long loginUserId) {
+        if (rows.products().isEmpty()) return List.of();
 
-        // 로그인한 경우 → 유저의 위시리스트 ID 한 번만 조회
-        Set<Long> wishlistIds = loginUserId != null
-                ? wishlistRepository.findProductIdsByUserId(loginUserId)
-                : Set.of();
+        // 로그인한 경우 → 유저의 위시리스트 ID (캐시)
+        SortedLongSet wishlistIds = wishlistIdCache.get(loginUserId);
 
-        return products.stream()
+        // 이미지 없는 상품은 썸네일 null (Map.of()는 null 키 조회 시 NPE라 먼저 거름)
+        return rows.products().stream()
                 .map(p -> ProductSummaryDto.fromEntity(
                         p,
-                        toAbsoluteUrl(paths.get(productToThumbnailId.get(p.getId()))),
+                        Optional.ofNullable(rows.thumbnailIds().get(p.getId()))
+                                .map(paths::get)
+                                .map(this::toAbsoluteUrl)
+                                .orElse(null),
+                        rows.emds().get(p.getId()),
                         wishlistIds.contains(p.getId())
                 ))
                 .toList();
     }
 
+    /**
+     * 상품 ID 목록 → 요약 정보 (요청한 ID 순서 유지, 없는 ID는 제외)
+     * - 상품 1회 + 대표 이미지/거래지역 각 1회 → 목록 크기와 무관하게 쿼리 수 고정
+     */
+    @Transactional(readOnly = true)
+    public List<ProductSummaryDto> getSummaries(List<Long> productIds, @Nullable Long loginUserId) {
+        if (productIds.isEmpty()) return List.of();
 
-    // 상품 이미지 리스트
-    private List<ProductImageDTO> toProductImageDtos(Product product) {
-        List<Long> imageIds = product.getProductImages().stream()
-                .map(img -> img.getId().getImageFileId())
-                .toList();
-
-        Map<Long, String> paths = resolveImagePaths(imageIds);
+        Map<Long, Product> byId = productRepository.findAllById(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, p -> p));
 
-        return product.getProductImages().stream()
-                .sorted(Comparator.comparingInt(ProductImage::getSortOrder))
-                .map(img -> ProductImageDTO.builder()
-                        .imageFileId(img.getId().getImageFileId())
-                        .sortOrder(img.getSortOrder())
-                        .url(toAbsoluteUrl(paths.get(img.getId().getImageFileId())))
-                        .build()
-                )
+        List<Product> ordered = productIds.stream()
+                .distinct()
+                .map(byId::get)
+                .filter(Objects::nonNull)
                 .toList();
+        return toProductSummaryDtos(ordered, loginUserId);
     }
 
-    // 이미지 경로 가져오기
+    // 이미지 경로 가져오기 (캐시 미스만 file-service 조회)
     private Map<Long, String> resolveImagePaths(Collection<Long> imageIds) {
-        if (imageIds.isEmpty()) return Map.of();
-
-        String idsParam = imageIds.stream()
-                .map(String::valueOf)
-                .collect(Collectors.joining(","));
-
-        ApiResponse<List<ImageFileDTO>> response = fileClient.getImageFilesByIds(idsParam);
-
-        return response.getData().stream()
-                .collect(Collectors.toMap(ImageFileDTO::getId, ImageFileDTO::getPath));
+        return imagePathCache.getPaths(imageIds);
     }
 
 
@@ -627,95 +1032,67 @@ public class ProductService {
      */
     @Transactional
     public Long createProduct(ProductRequest dto, String userId) throws IOException {
-        ProductCategory category = categoryRepository.findById(dto.getCategoryId())
-                .orElseThrow(() -> new IllegalArgumentException("Invalid category ID"));
-
-        Product product = Product.fromRequest(dto, category, Long.valueOf(userId));
-        Product saved = productRepository.save(product);
-
-        // 상품 이미지 연결
-        int sortOrder = 1;
-        for (Long imageFileId : dto.getImageFileIds()) {
-            ProductImageId id = new ProductImageId(saved.getId(), imageFileId);
-
-            ProductImage image = ProductImage.builder()
-                    .id(id)
-                    .sortOrder(sortOrder++)
-                    .product(saved)
-                    .build();
-
-            productImageRepository.save(image);
+        // 실제 실행된 statement 수 측정 (커밋 시점 flush까지 포함하도록 트랜잭션 종료 후 기록)
+        if (countStatements) {
+            JdbcStatementCounter.start();
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    meterRegistry.summary("product.create.statements").record(JdbcStatementCounter.stop());
+                }
+            });
         }
 
+        ProductCategory category = categoryRepository.findById(dto.getCategoryId())
+                .orElseThrow(() -> new IllegalArgumentException("Invalid category ID"));
 
-        // 지역 연결
-        for (Integer areaId : dto.getAreaIds()) {
-            Area area = areaRepository.findById(areaId)
-                    .orElseThrow(() -> new IllegalArgumentException("Invalid area ID: " + areaId));
-
-            ProductTradeAreaId tradeAreaId = new ProductTradeAreaId(saved.getId(), area.getId());
-            ProductTradeArea tradeArea = ProductTradeArea.builder()
-                    .id(tradeAreaId)
-                    .product(saved)
-                    .area(area)
-                    .build();
+        Timer.Sample sample = Timer.start(meterRegistry);
 
-            productTradeAreaRepository.save(tradeArea);
+        // 지역 검증 (메모리 지역 인덱스, DB 조회 없음)
+        List<Integer> areaIds = distinct(dto.getAreaIds());
+        for (Integer areaId : areaIds) {
+            if (areaIndex.get(areaId).isEmpty()) {
+                throw new IllegalArgumentException("Invalid area ID: " + areaId);
+            }
         }
-
-        // 해시태그 연결
-        for (String tagName : dto.getHashtags()) {
-            Hashtag hashtag = hashtagRepository.findByName(tagName)
-                    .orElseGet(() -> hashtagRepository.save(Hashtag.builder().name(tagName).build()));
-
-            ProductHashtagId phId = new ProductHashtagId(saved.getId(), hashtag.getId());
-            ProductHashtag ph = ProductHashtag.builder()
-                    .id(phId)
-                    .product(saved)
-                    .hashtag(hashtag)
-                    .build();
-
-            // hashtag list에 추가
-            saved.getProductHashtags().add(ph);
+        List<String> hashtags = distinct(dto.getHashtags()).stream()
+                .map(String::trim)
+                .filter(tag -> !tag.isEmpty())
+                .distinct()
+                .toList();
+        // INSERT IGNORE는 긴 이름을 잘라 저장해 원래 이름으로 다시 조회되지 않으므로 미리 거부
+        for (String tag : hashtags) {
+            if (tag.length() > Hashtag.MAX_NAME_LENGTH) {
+                throw new IllegalArgumentException(
+                        "해시태그는 " + Hashtag.MAX_NAME_LENGTH + "자 이하여야 합니다: " + tag);
+            }
         }
 
-        /** Elasticsearch 색인 **/
-        // emd 추출
-        Area area = areaRepository.findById(dto.getAreaIds().get(0))
-                .orElseThrow(() -> new IllegalArgumentException("Invalid area ID: " + dto.getAreaIds().get(0)));
-        String emd = area.getName();
+        Product product = Product.fromRequest(dto, category, Long.valueOf(userId));
+        Product saved = productRepository.save(product);
 
+        // 하위 행은 JDBC 배치로
+        productChildWriter.insertImages(saved.getId(), distinct(dto.getImageFileIds()));
+        productChildWriter.insertTradeAreas(saved.getId(), areaIds);
+        productChildWriter.insertHashtags(saved.getId(), hashtags);
+        trendingHashtagService.recordCreated(hashtags);
+        tradeStatsService.onListed(saved.getSellerId());
 
-        // 썸네일 추출
-        Long firstImageFileId = dto.getImageFileIds().get(0);
-        ApiResponse<List<ImageFileDTO>> response = fileClient.getImageFilesByIds(firstImageFileId.toString());
-        String thumbnailImagePath = response.getData().get(0).getPath();
+        /** Elasticsearch 색인: 같은 트랜잭션에 아웃박스 기록 → 디스패처가 커밋 이후 일괄 반영 **/
+        outboxService.append(saved.getId(), ProductOutboxEventType.CREATED);
 
-        indexProduct(saved, emd, thumbnailImagePath, dto.getAreaIds());
+        sample.stop(meterRegistry.timer("product.create"));
 
         return saved.getId();
     }
-    // ------------ util --------------
 
-    /***
-     * Elasticsearch에 상품 데이터를 색인
-     * @param product 색인할 상품 엔티티
-     * @param emd
-     * @param thumbnailImagePath
-     */
-    public void indexProduct(Product product, String emd, String thumbnailImagePath, List<Integer> tradeAreaIds) throws IOException {
-        ProductDocument doc = ProductDocument.fromEntity(product, emd, thumbnailImagePath, tradeAreaIds);
-
-        esClient.index(i -> i
-                .index("products")
-                .id(doc.getId().toString())
-                .document(doc)
-        );
+    private static <T> List<T> distinct(@Nullable List<T> values) {
+        return values == null ? List.of() : values.stream().filter(Objects::nonNull).distinct().toList();
     }
-
+    // ------------ util --------------
 
     /**
-     * FileClient를 통해 이미지 파일 ID → 절대 URL 맵핑을 조회한다.
+     * 이미지 파일 ID → 절대 URL 맵핑을 조회한다. (이미지 경로 캐시 경유)
      *
      * @param fileIds 조회할 파일 ID 리스트
      * @return fileId → 절대 URL 매핑
@@ -723,20 +1100,10 @@ public class ProductService {
     private Map<Long, String> getFileUrlsByIds(Collection<Long> fileIds) {
         if (fileIds == null || fileIds.isEmpty()) return Collections.emptyMap();
 
-        String idsParam = fileIds.stream()
-                .map(String::valueOf)
-                .collect(Collectors.joining(","));
-
-        ApiResponse<List<ImageFileDTO>> resp = fileClient.getImageFilesByIds(idsParam);
-
-        if (resp == null || resp.getData() == null) {
-            return Collections.emptyMap();
-        }
-
-        return resp.getData().stream()
+        return imagePathCache.getPaths(fileIds).entrySet().stream()
                 .collect(Collectors.toMap(
-                        ImageFileDTO::getId,
-                        dto -> toAbsoluteUrl(dto.getPath())
+                        Map.Entry::getKey,
+                        e -> toAbsoluteUrl(e.getValue())
                 ));
     }
 }
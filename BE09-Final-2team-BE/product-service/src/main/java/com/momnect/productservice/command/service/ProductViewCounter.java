@@ -0,0 +1,177 @@
+package com.momnect.productservice.command.service;
+
+import com.momnect.productservice.command.entity.outbox.ProductOutboxEventType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 상품 조회수 write-behind 카운터
+ * - 상세 조회 시에는 메모리 카운터(LongAdder)만 올린다 (DB 행 잠금 없음)
+ * - 주기적으로 누적분을 한 번의 배치 UPDATE(view_count = view_count + ?)로 반영하고
+ *   같은 트랜잭션에서 아웃박스(VIEW_COUNT_CHANGED)를 남겨 ES에 부분 업데이트
+ * - 로그인 유저는 dedup-window 안의 재조회(새로고침)를 한 번으로 센다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductViewCounter {
+
+    private static final String INCREMENT_SQL =
+            "UPDATE tbl_product SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProductOutboxService outboxService;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    // 같은 유저의 같은 상품 재조회를 무시할 시간 (0이면 중복 제거 안 함)
+    @Value("${product.view-counter.dedup-window-ms:600000}")
+    private long dedupWindowMs;
+
+    // 중복 제거용 기록 최대 개수 (초과 시 새 기록은 남기지 않고 그냥 센다)
+    @Value("${product.view-counter.dedup-max-entries:200000}")
+    private int dedupMaxEntries;
+
+    // productId → 아직 DB에 반영되지 않은 조회수
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    // (userId, productId) → 마지막으로 센 시각
+    private final ConcurrentHashMap<ViewKey, Long> lastViewed = new ConcurrentHashMap<>();
+
+    private TransactionTemplate tx;
+    private Timer flushTimer;
+    private Counter recorded;
+    private Counter deduplicated;
+
+    @PostConstruct
+    void init() {
+        tx = new TransactionTemplate(transactionManager);
+
+        flushTimer = Timer.builder("product.view.flush")
+                .description("조회수 배치 반영 시간")
+                .register(meterRegistry);
+        recorded = Counter.builder("product.view.requests")
+                .tag("result", "counted")
+                .register(meterRegistry);
+        deduplicated = Counter.builder("product.view.requests")
+                .tag("result", "deduplicated")
+                .register(meterRegistry);
+        Gauge.builder("product.view.pending.products", pending, Map::size)
+                .description("반영 대기 중인 상품 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 조회 1회 기록
+     *
+     * @param userId 로그인 유저 ID (비로그인 null → 중복 제거 없이 카운트)
+     */
+    public void record(Long productId, @Nullable Long userId) {
+        if (userId != null && dedupWindowMs > 0 && isDuplicate(new ViewKey(userId, productId))) {
+            deduplicated.increment();
+            return;
+        }
+        // 증가를 맵 잠금 안에서 → flush의 "0이면 제거"와 겹쳐도 증가분이 제거된 adder에 들어가지 않음
+        pending.compute(productId, (id, adder) -> {
+            if (adder == null) adder = new LongAdder();
+            adder.increment();
+            return adder;
+        });
+        recorded.increment();
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수 (상세 화면 표시용)
+     */
+    public long pendingCount(Long productId) {
+        LongAdder adder = pending.get(productId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    private boolean isDuplicate(ViewKey key) {
+        long now = System.currentTimeMillis();
+
+        if (lastViewed.size() >= dedupMaxEntries && !lastViewed.containsKey(key)) {
+            return false;
+        }
+
+        boolean[] counted = {false};
+        lastViewed.compute(key, (k, last) -> {
+            if (last != null && now - last < dedupWindowMs) return last;
+            counted[0] = true;
+            return now;
+        });
+        return !counted[0];
+    }
+
+    /**
+     * 누적 조회수 배치 반영
+     */
+    @Scheduled(fixedDelayString = "${product.view-counter.flush-interval-ms:10000}")
+    public void flush() {
+        purgeExpiredViews();
+
+        // 상품 ID 오름차순 → 여러 인스턴스가 동시에 반영해도 잠금 순서가 같아 교착 없음
+        TreeMap<Long, Long> deltas = new TreeMap<>();
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta > 0) {
+                deltas.put(entry.getKey(), delta);
+            } else {
+                // 한 주기 동안 조회가 없던 상품은 정리 (그 사이 증가가 있었으면 유지)
+                pending.computeIfPresent(entry.getKey(), (id, adder) -> adder.sum() == 0 ? null : adder);
+            }
+        }
+        if (deltas.isEmpty()) return;
+
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((productId, delta) -> args.add(new Object[]{delta, productId}));
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            tx.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(INCREMENT_SQL, args);
+                outboxService.appendAll(deltas.keySet(), ProductOutboxEventType.VIEW_COUNT_CHANGED);
+            });
+            log.debug("조회수 반영: {}개 상품", deltas.size());
+        } catch (Exception e) {
+            // 실패분은 다음 주기에 다시 반영
+            deltas.forEach((productId, delta) ->
+                    pending.computeIfAbsent(productId, id -> new LongAdder()).add(delta));
+            log.warn("조회수 반영 실패 - 다음 주기에 재시도: {}개 상품", deltas.size(), e);
+        } finally {
+            sample.stop(flushTimer);
+        }
+    }
+
+    private void purgeExpiredViews() {
+        if (lastViewed.isEmpty()) return;
+        long threshold = System.currentTimeMillis() - dedupWindowMs;
+        lastViewed.values().removeIf(last -> last < threshold);
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    private record ViewKey(long userId, long productId) {
+    }
+}
@@ -1,14 +1,14 @@
 package com.momnect.productservice.command.service;
 
-import com.momnect.productservice.command.client.FileClient;
-import com.momnect.productservice.command.client.dto.ImageFileDTO;
+import com.momnect.productservice.command.cache.WishlistIdCache;
 import com.momnect.productservice.command.dto.product.ProductSummaryDto;
 import com.momnect.productservice.command.dto.trade.TradeSummaryDTO;
 import com.momnect.productservice.command.entity.image.ProductImage;
+import com.momnect.productservice.command.entity.outbox.ProductOutboxEventType;
 import com.momnect.productservice.command.entity.product.Product;
 import com.momnect.productservice.command.entity.product.TradeStatus;
+import com.momnect.productservice.command.entity.trade.UserTradeStats;
 import com.momnect.productservice.command.repository.ProductRepository;
-import com.momnect.productservice.command.repository.WishlistRepository;
 import com.momnect.productservice.common.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -25,12 +25,12 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class TradeService {
 
-    private final FileClient fileClient;
-
     private final ProductRepository productRepository;
-    private final WishlistRepository wishlistRepository;
+    private final WishlistIdCache wishlistIdCache;
 
     private final ProductService productService; // 주입받기
+    private final ProductOutboxService outboxService;
+    private final UserTradeStatsService tradeStatsService;
 
     @Value("${ftp.base-url}")
     private String ftpBaseUrl;
@@ -45,16 +45,14 @@ public class TradeService {
      */
     @Transactional(readOnly = true)
     public TradeSummaryDTO getTradeSummary(Long userId, boolean isMyProfile) {
-        // 총 판매상품 수 (판매 완료 여부 상관없이 판매자가 올린 모든 상품)
-        Integer totalSalesCount = productRepository.countBySellerIdAndIsDeletedFalse(userId);
-
-        // 판매 완료 상품 수
-        Integer salesCount = productRepository.countByTradeStatusAndSellerId(
-                TradeStatus.SOLD, userId);
+        // 유저 거래 통계 (PK 한 건 조회)
+        UserTradeStats stats = tradeStatsService.get(userId);
+        Integer totalSalesCount = stats.getListedCount();   // 총 판매상품 수 (판매 완료 여부 상관없이)
+        Integer salesCount = stats.getSoldCount();          // 판매 완료 상품 수
 
         if (isMyProfile) {
             // 구매 완료 상품 수
-            Integer purchaseCount = productRepository.countByTradeStatusAndBuyerId(TradeStatus.SOLD, userId);
+            Integer purchaseCount = stats.getPurchasedCount();
 
             return TradeSummaryDTO.builder()
                     .totalSalesCount(totalSalesCount)     // 총 판매상품 수
@@ -103,6 +101,7 @@ public class TradeService {
     /**
      * 상품 판매 완료 처리
      */
+    @Transactional
     public void completeSale(Long productId, Long sellerId, Long buyerId) {
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다. ID: " + productId));
@@ -128,6 +127,8 @@ public class TradeService {
         product.setUpdatedBy(sellerId);
 
         productRepository.save(product);
+        outboxService.append(productId, ProductOutboxEventType.STATUS_CHANGED);
+        tradeStatsService.onSold(sellerId, buyerId);
     }
 
 
@@ -158,11 +159,16 @@ public class TradeService {
         product.setUpdatedBy(userId);
 
         productRepository.save(product);
+        outboxService.append(productId, ProductOutboxEventType.STATUS_CHANGED);
+
+        // 판매 완료로 바뀐 경우만 (SOLD → 다른 상태 변경은 위에서 막힘, 구매자 미지정)
+        if (newStatus == TradeStatus.SOLD) {
+            tradeStatsService.onSold(userId, null);
+        }
     }
 
     // 찜 여부 체크
     private Boolean inWishlist(Long productId, Long userId) {
-        if (userId == null) return false; // 로그인 안한 경우
-        return wishlistRepository.existsByProductIdAndUserId(productId, userId);
+        return wishlistIdCache.contains(userId, productId); // 비로그인 → false
     }
 }
@@ -0,0 +1,254 @@
+package com.momnect.productservice.command.service;
+
+import com.momnect.productservice.command.dto.hashtag.TrendingHashtagDto;
+import com.momnect.productservice.common.AfterCommit;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 트렌딩 해시태그 (슬라이딩 윈도우 카운터)
+ * - 1시간 단위 버킷 24개를 링 버퍼로 유지 → 지난 시간대 버킷은 같은 칸을 재사용하며 초기화
+ * - 상품 등록(해시태그)과 검색어(등록된 해시태그와 일치하는 토큰)로 집계
+ * - 순위는 주기적으로 합산해 두고 top-N/자동완성은 메모리에서 응답
+ * - 버킷은 주기적으로 tbl_hashtag_trend_bucket에 스냅샷 → 재시작 시 윈도우 복원
+ *   (인스턴스별 카운터를 그대로 덮어쓰므로 단일 인스턴스 기준)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendingHashtagService {
+
+    private static final int WINDOW_HOURS = 24;
+    private static final int AUTOCOMPLETE_SCAN_LIMIT = 1000;
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO tbl_hashtag_trend_bucket (bucket_hour, tag, tag_count) VALUES (?, ?, ?) " +
+                    "ON DUPLICATE KEY UPDATE tag_count = VALUES(tag_count)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${product.trending-hashtags.max-size:50}")
+    private int maxSize;
+
+    // 시간 버킷 링 버퍼 (칸 = bucketHour % WINDOW_HOURS)
+    private final AtomicReferenceArray<Bucket> ring = new AtomicReferenceArray<>(WINDOW_HOURS);
+
+    // 자동완성 대상 (등록된 해시태그 이름, 정렬 상태 유지)
+    private final ConcurrentSkipListSet<String> knownTags = new ConcurrentSkipListSet<>();
+
+    // 마지막 합산 결과
+    private volatile Ranking ranking = Ranking.EMPTY;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        knownTags.addAll(jdbcTemplate.queryForList("SELECT name FROM tbl_hashtag", String.class));
+
+        long from = currentHour() - WINDOW_HOURS + 1;
+        int[] restored = {0};
+        jdbcTemplate.query(
+                "SELECT bucket_hour, tag, tag_count FROM tbl_hashtag_trend_bucket WHERE bucket_hour >= ?",
+                rs -> {
+                    bucketFor(rs.getLong(1)).add(rs.getString(2), rs.getLong(3));
+                    restored[0]++;
+                },
+                from);
+
+        rank();
+        log.info("트렌딩 해시태그 복원: 해시태그 {}개, 버킷 항목 {}건", knownTags.size(), restored[0]);
+    }
+
+    /**
+     * 상품 등록 해시태그 집계 (트랜잭션 안이면 커밋 이후)
+     */
+    public void recordCreated(Collection<String> tags) {
+        List<String> normalized = tags.stream()
+                .map(TrendingHashtagService::normalize)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (normalized.isEmpty()) return;
+
+        Runnable action = () -> {
+            Bucket bucket = bucketFor(currentHour());
+            for (String tag : normalized) {
+                knownTags.add(tag);
+                bucket.add(tag, 1);
+            }
+        };
+        AfterCommit.run(action);
+    }
+
+    /**
+     * 검색어 집계 (등록된 해시태그와 일치하는 토큰만)
+     */
+    public void recordSearch(@Nullable String query) {
+        if (query == null || query.isBlank()) return;
+
+        Bucket bucket = null;
+        Set<String> seen = new HashSet<>();
+        for (String token : query.trim().split("\\s+")) {
+            String tag = normalize(token);
+            if (tag == null || !seen.add(tag) || !knownTags.contains(tag)) continue;
+            if (bucket == null) bucket = bucketFor(currentHour());
+            bucket.add(tag, 1);
+        }
+    }
+
+    /**
+     * 트렌딩 해시태그 상위 N개
+     */
+    public List<TrendingHashtagDto> getTrending(int size) {
+        List<TrendingHashtagDto> top = ranking.top;
+        return top.subList(0, Math.min(clamp(size), top.size()));
+    }
+
+    /**
+     * 접두어 자동완성 (트렌딩 횟수 내림차순 → 이름순)
+     */
+    public List<TrendingHashtagDto> autocomplete(@Nullable String prefix, int size) {
+        String p = normalize(prefix);
+        if (p == null) return List.of();
+
+        Map<String, Long> totals = ranking.totals;
+        List<TrendingHashtagDto> candidates = new ArrayList<>();
+        for (String tag : knownTags.subSet(p, true, p + Character.MAX_VALUE, false)) {
+            candidates.add(TrendingHashtagDto.builder()
+                    .name(tag)
+                    .count(totals.getOrDefault(tag, 0L))
+                    .build());
+            if (candidates.size() >= AUTOCOMPLETE_SCAN_LIMIT) break;
+        }
+
+        candidates.sort(Comparator.comparing(TrendingHashtagDto::getCount).reversed()
+                .thenComparing(TrendingHashtagDto::getName));
+        return candidates.subList(0, Math.min(clamp(size), candidates.size()));
+    }
+
+    /**
+     * 윈도우 합산 → 순위 갱신
+     */
+    @Scheduled(fixedDelayString = "${product.trending-hashtags.rank-interval-ms:30000}")
+    public void rank() {
+        long from = currentHour() - WINDOW_HOURS + 1;
+        Map<String, Long> totals = new HashMap<>();
+        for (int i = 0; i < WINDOW_HOURS; i++) {
+            Bucket bucket = ring.get(i);
+            if (bucket == null || bucket.hour < from) continue;
+            bucket.counts.forEach((tag, adder) -> totals.merge(tag, adder.sum(), Long::sum));
+        }
+
+        // 상위 maxSize개만 유지 (min-heap)
+        PriorityQueue<Map.Entry<String, Long>> heap = new PriorityQueue<>(
+                Map.Entry.<String, Long>comparingByValue()
+                        .thenComparing(Map.Entry::getKey, Comparator.reverseOrder()));
+        for (Map.Entry<String, Long> entry : totals.entrySet()) {
+            heap.offer(entry);
+            if (heap.size() > maxSize) heap.poll();
+        }
+
+        List<TrendingHashtagDto> top = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            Map.Entry<String, Long> entry = heap.poll();
+            top.add(TrendingHashtagDto.builder().name(entry.getKey()).count(entry.getValue()).build());
+        }
+        Collections.reverse(top);
+
+        ranking = new Ranking(List.copyOf(top), Map.copyOf(totals));
+    }
+
+    /**
+     * 버킷 스냅샷 저장 + 윈도우 밖 버킷 삭제
+     */
+    @Scheduled(fixedDelayString = "${product.trending-hashtags.snapshot-interval-ms:300000}",
+            initialDelayString = "${product.trending-hashtags.snapshot-interval-ms:300000}")
+    public void snapshot() {
+        long from = currentHour() - WINDOW_HOURS + 1;
+        List<Object[]> args = new ArrayList<>();
+        for (int i = 0; i < WINDOW_HOURS; i++) {
+            Bucket bucket = ring.get(i);
+            if (bucket == null || bucket.hour < from) continue;
+            bucket.counts.forEach((tag, adder) -> args.add(new Object[]{bucket.hour, tag, adder.sum()}));
+        }
+
+        try {
+            if (!args.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPSERT_SQL, args);
+            }
+            jdbcTemplate.update("DELETE FROM tbl_hashtag_trend_bucket WHERE bucket_hour < ?", from);
+            log.debug("트렌딩 해시태그 스냅샷 저장: {}건", args.size());
+        } catch (Exception e) {
+            log.warn("트렌딩 해시태그 스냅샷 저장 실패 - 다음 주기에 재시도", e);
+        }
+    }
+
+    @PreDestroy
+    void snapshotOnShutdown() {
+        snapshot();
+    }
+
+    /**
+     * 해당 시간의 버킷 (칸에 지난 시간대 버킷이 있으면 새 버킷으로 교체)
+     */
+    private Bucket bucketFor(long hour) {
+        int slot = (int) Math.floorMod(hour, (long) WINDOW_HOURS);
+        while (true) {
+            Bucket current = ring.get(slot);
+            if (current != null && current.hour == hour) return current;
+            if (current != null && current.hour > hour) {
+                // 윈도우 밖의 오래된 시간 (스냅샷 복원 중 등) → 버리는 버킷
+                return new Bucket(hour);
+            }
+            Bucket fresh = new Bucket(hour);
+            if (ring.compareAndSet(slot, current, fresh)) return fresh;
+        }
+    }
+
+    private static long currentHour() {
+        return TimeUnit.MILLISECONDS.toHours(System.currentTimeMillis());
+    }
+
+    private int clamp(int size) {
+        return Math.max(1, Math.min(size, maxSize));
+    }
+
+    @Nullable
+    static String normalize(@Nullable String raw) {
+        if (raw == null) return null;
+        String tag = raw.trim();
+        while (tag.startsWith("#")) tag = tag.substring(1);
+        tag = tag.trim();
+        return tag.isEmpty() || tag.length() > 50 ? null : tag;
+    }
+
+    private static final class Bucket {
+        private final long hour;
+        private final ConcurrentHashMap<String, LongAdder> counts = new ConcurrentHashMap<>();
+
+        private Bucket(long hour) {
+            this.hour = hour;
+        }
+
+        void add(String tag, long delta) {
+            counts.computeIfAbsent(tag, k -> new LongAdder()).add(delta);
+        }
+    }
+
+    private record Ranking(List<TrendingHashtagDto> top, Map<String, Long> totals) {
+        static final Ranking EMPTY = new Ranking(List.of(), Map.of());
+    }
+}
@@ -0,0 +1,83 @@
+package com.momnect.productservice.command.service;
+
+import com.momnect.productservice.command.entity.trade.UserTradeStats;
+import com.momnect.productservice.command.repository.UserTradeStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 유저별 거래 통계 (tbl_user_trade_stats)
+ * - 상품 등록/판매 완료 트랜잭션 안에서 upsert 한 번으로 증감 → 조회는 PK 한 건
+ * - 증감 누락/수동 데이터 수정으로 어긋난 값은 야간 재계산(tbl_product 집계)으로 보정
+ * - 최초 기동 시 테이블이 비어 있으면 한 번 채운다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserTradeStatsService {
+
+    private final UserTradeStatsRepository statsRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        try {
+            if (statsRepository.count() == 0) {
+                reconcile();
+            }
+        } catch (Exception e) {
+            log.warn("거래 통계 초기 적재 실패", e);
+        }
+    }
+
+    /**
+     * 상품 등록 (호출 측 트랜잭션에 참여)
+     */
+    @Transactional
+    public void onListed(Long sellerId) {
+        statsRepository.incrementListed(sellerId);
+    }
+
+    /**
+     * 판매 완료 (구매자를 모르는 상태 변경이면 buyerId = null)
+     */
+    @Transactional
+    public void onSold(Long sellerId, @Nullable Long buyerId) {
+        statsRepository.incrementSold(sellerId);
+        if (buyerId != null) {
+            statsRepository.incrementPurchased(buyerId);
+        }
+    }
+
+    /**
+     * 유저 거래 통계 (행이 없으면 0)
+     */
+    @Transactional(readOnly = true)
+    public UserTradeStats get(Long userId) {
+        return statsRepository.findById(userId).orElseGet(() -> UserTradeStats.empty(userId));
+    }
+
+    /**
+     * tbl_product 기준 전체 재계산
+     */
+    @Scheduled(cron = "${product.trade-stats.reconcile-cron:0 30 4 * * *}")
+    public void reconcile() {
+        try {
+            long started = System.nanoTime();
+            int[] affected = new TransactionTemplate(transactionManager)
+                    .execute(status -> new int[]{statsRepository.reconcileAll(), statsRepository.resetMissing()});
+            log.info("거래 통계 재계산 완료: 영향 행 {}건, 0으로 초기화 {}건, {}ms",
+                    affected[0], affected[1], (System.nanoTime() - started) / 1_000_000);
+        } catch (Exception e) {
+            log.warn("거래 통계 재계산 실패 - 다음 주기에 재시도", e);
+        }
+    }
+}
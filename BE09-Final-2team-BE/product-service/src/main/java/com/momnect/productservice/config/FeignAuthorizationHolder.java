@@ -0,0 +1,41 @@
+package com.momnect.productservice.config;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * 요청 스레드 밖(작업 스레드)에서 Feign 호출 시 전달할 Authorization 헤더 값
+ * - 요청 객체(RequestAttributes)는 응답 후 재사용되므로 다른 스레드로 넘기지 않고 헤더 값만 복사해 둔다
+ */
+public final class FeignAuthorizationHolder {
+
+    private static final ThreadLocal<String> AUTHORIZATION = new ThreadLocal<>();
+
+    private FeignAuthorizationHolder() {
+    }
+
+    /** 현재 요청 스레드의 Authorization 헤더 (없으면 null) */
+    public static String captureFromRequest() {
+        ServletRequestAttributes requestAttributes =
+                (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
+        return requestAttributes == null ? null
+                : requestAttributes.getRequest().getHeader(HttpHeaders.AUTHORIZATION);
+    }
+
+    public static String get() {
+        return AUTHORIZATION.get();
+    }
+
+    public static void set(String authorization) {
+        if (authorization == null) {
+            AUTHORIZATION.remove();
+        } else {
+            AUTHORIZATION.set(authorization);
+        }
+    }
+
+    public static void clear() {
+        AUTHORIZATION.remove();
+    }
+}
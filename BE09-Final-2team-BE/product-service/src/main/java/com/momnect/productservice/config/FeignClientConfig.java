@@ -4,8 +4,6 @@ import feign.RequestInterceptor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
 
 @Configuration
 public class FeignClientConfig {
@@ -13,24 +11,19 @@ public class FeignClientConfig {
     public RequestInterceptor requestInterceptor() {
         return requestTemplate -> {
 
-            /* 현재 요청의 Http Servlet Request 를 가져옴 */
-            ServletRequestAttributes requestAttributes =
-                    (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
-
-            if (requestAttributes != null) {
+            /* 작업 스레드에서 복사해 둔 헤더가 있으면 우선 사용, 없으면 현재 요청의 Http Servlet Request 에서 추출 */
+            String authorizationHeader = FeignAuthorizationHolder.get();
+            if (authorizationHeader == null) {
 
                 // 1. Gateway를 요청하는 상황
                 /* 현재 요청의 Authorization 헤더 추출 (Bearer 토큰) */
-                String authorizationHeader = requestAttributes
-                        .getRequest()
-                        .getHeader(HttpHeaders.AUTHORIZATION);
-
+                authorizationHeader = FeignAuthorizationHolder.captureFromRequest();
+            }
 
-                if (authorizationHeader != null) {       // 토큰을 들고 왔다면
+            if (authorizationHeader != null) {       // 토큰을 들고 왔다면
 
-                    // Feign client 요청에 "Authorization" 헤더 추가
-                    requestTemplate.header(HttpHeaders.AUTHORIZATION, authorizationHeader);
-                }
+                // Feign client 요청에 "Authorization" 헤더 추가
+                requestTemplate.header(HttpHeaders.AUTHORIZATION, authorizationHeader);
             }
         };
     }
@@ -0,0 +1,28 @@
+package com.momnect.productservice.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * DataSource를 statement 수 측정용 래퍼로 감싼다 (JdbcStatementCounter)
+ * - JPA/JdbcTemplate이 같은 DataSource 빈을 쓰므로 트랜잭션 커넥션 공유는 그대로 유지
+ * - product.jdbc-statement-count.enabled=true일 때만 (기본 꺼짐, 벤치마크/진단용)
+ */
+@Configuration
+@ConditionalOnProperty(name = "product.jdbc-statement-count.enabled", havingValue = "true")
+public class JdbcStatementCountConfig {
+
+    @Bean
+    public static BeanPostProcessor jdbcStatementCountingPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource ? JdbcStatementCounter.wrap(dataSource) : bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,113 @@
+package com.momnect.productservice.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * 현재 스레드에서 실제로 실행된 JDBC statement 수 측정
+ * - DataSource를 감싸 execute* 호출마다 센다 (JPA/JdbcTemplate 공통, executeBatch 1회 = 1)
+ * - start() ~ stop() 사이에 같은 스레드에서 만들어진 statement만 프록시로 감싸므로 측정 구간 밖은 그대로 통과
+ */
+public final class JdbcStatementCounter {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private JdbcStatementCounter() {
+    }
+
+    /** 측정 시작 (반드시 finally에서 stop 호출) */
+    public static void start() {
+        COUNT.set(new int[1]);
+    }
+
+    /** 측정 종료 후 실행된 statement 수 */
+    public static int stop() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count == null ? 0 : count[0];
+    }
+
+    /** 측정용 DataSource 래퍼 */
+    public static DataSource wrap(DataSource dataSource) {
+        return new CountingDataSource(dataSource);
+    }
+
+    // 풀(Hikari) 종료가 빠지지 않도록 close를 대상에 위임
+    private static final class CountingDataSource extends DelegatingDataSource implements AutoCloseable {
+
+        private CountingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return countingConnection(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return countingConnection(super.getConnection(username, password));
+        }
+
+        @Override
+        public void close() throws Exception {
+            if (getTargetDataSource() instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private static Connection countingConnection(Connection target) {
+        return proxy(Connection.class, target, (proxy, method, args) -> {
+            Object result = invoke(proxy, target, method, args);
+            // createStatement / prepareStatement / prepareCall
+            if (result instanceof Statement statement && COUNT.get() != null) {
+                return countingStatement(method.getReturnType(), statement);
+            }
+            return result;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object countingStatement(Class<?> type, Statement target) {
+        return proxy((Class<Object>) type, target, (proxy, method, args) -> {
+            if (EXECUTE_METHODS.contains(method.getName())) {
+                int[] count = COUNT.get();
+                if (count != null) count[0]++;
+            }
+            return invoke(proxy, target, method, args);
+        });
+    }
+
+    private static <T> T proxy(Class<T> type, Object target, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(
+                JdbcStatementCounter.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private static Object invoke(Object proxy, Object target, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            default:
+                try {
+                    return method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+        }
+    }
+}
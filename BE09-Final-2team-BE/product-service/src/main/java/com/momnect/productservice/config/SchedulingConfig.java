@@ -0,0 +1,12 @@
+package com.momnect.productservice.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 백그라운드 갱신 작업(스냅샷, 캐시 등) 스케줄링 활성화
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
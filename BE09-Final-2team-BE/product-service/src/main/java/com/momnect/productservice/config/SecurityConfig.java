@@ -38,6 +38,8 @@ public class SecurityConfig {
                 )
                 .authorizeHttpRequests(auth ->
                         auth
+                                .requestMatchers("/areas/load-stream") // 지역 적재 (운영용)
+                                .hasAnyAuthority("ADMIN", "ROLE_ADMIN")
                                 .requestMatchers(HttpMethod.GET,
                                         "/products/**",            // 상품 상세/요약/검색/섹션 조회
                                         "/trades/users/*/summary", // 상품 거래 횟수
@@ -54,9 +56,13 @@ public class SecurityConfig {
                                 )
                                 .permitAll()
                                 .requestMatchers(HttpMethod.POST,
-                                        "/products/search"
+                                        "/products/search",
+                                        "/products/search/cursor",
+                                        "/products/search/faceted"
                                 )
                                 .permitAll()
+                                .requestMatchers("/internal/**") // 재색인 등 운영용
+                                .hasAnyAuthority("ADMIN", "ROLE_ADMIN")
                                 .anyRequest()
                                 .authenticated()
                 )
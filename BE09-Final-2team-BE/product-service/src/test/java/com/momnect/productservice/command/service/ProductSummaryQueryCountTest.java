@@ -0,0 +1,190 @@
+package com.momnect.productservice.command.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import com.momnect.productservice.command.cache.AreaIndex;
+import com.momnect.productservice.command.cache.ChildAgeBucketCache;
+import com.momnect.productservice.command.cache.ImagePathCache;
+import com.momnect.productservice.command.cache.SearchFacetCache;
+import com.momnect.productservice.command.cache.SimilarProductCache;
+import com.momnect.productservice.command.cache.SortedLongSet;
+import com.momnect.productservice.command.cache.WishlistIdCache;
+import com.momnect.productservice.command.client.ReviewClient;
+import com.momnect.productservice.command.client.UserClient;
+import com.momnect.productservice.command.dto.product.ProductSummaryDto;
+import com.momnect.productservice.command.entity.area.Area;
+import com.momnect.productservice.command.entity.area.AreaLevel;
+import com.momnect.productservice.command.entity.area.ProductTradeArea;
+import com.momnect.productservice.command.entity.area.ProductTradeAreaId;
+import com.momnect.productservice.command.entity.image.ProductImage;
+import com.momnect.productservice.command.entity.image.ProductImageId;
+import com.momnect.productservice.command.entity.product.*;
+import com.momnect.productservice.command.repository.ProductRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 상품 요약 변환(toProductSummaryDtos)의 쿼리 수가 목록 크기와 무관하게 고정인지 확인
+ * - Hibernate Statistics의 prepared statement 수로 측정
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.sql.init.mode=never",
+        "ftp.base-url=http://ftp.test/"
+})
+@Import(ProductService.class)
+class ProductSummaryQueryCountTest {
+
+    @Autowired
+    private ProductService productService;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private TestEntityManager em;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private ImagePathCache imagePathCache;
+    @MockitoBean
+    private WishlistIdCache wishlistIdCache;
+    @MockitoBean
+    private UserClient userClient;
+    @MockitoBean
+    private ReviewClient reviewClient;
+    @MockitoBean
+    private AreaIndex areaIndex;
+    @MockitoBean
+    private ProductLikeRanking productLikeRanking;
+    @MockitoBean
+    private ElasticsearchClient esClient;
+    @MockitoBean
+    private ProductOutboxService outboxService;
+    @MockitoBean
+    private ProductViewCounter productViewCounter;
+    @MockitoBean
+    private ProductDetailFanout detailFanout;
+    @MockitoBean
+    private ProductChildWriter productChildWriter;
+    @MockitoBean
+    private TrendingHashtagService trendingHashtagService;
+    @MockitoBean
+    private SearchFacetCache searchFacetCache;
+    @MockitoBean
+    private ChildAgeBucketCache childAgeBucketCache;
+    @MockitoBean
+    private SimilarProductCache similarProductCache;
+    @MockitoBean
+    private UserTradeStatsService tradeStatsService;
+    @MockitoBean
+    private MeterRegistry meterRegistry;
+
+    private Integer areaId;
+
+    @BeforeEach
+    void setUp() {
+        given(wishlistIdCache.get(any())).willReturn(SortedLongSet.EMPTY);
+        given(imagePathCache.getPaths(any())).willReturn(Map.of());
+
+        LocalDateTime now = LocalDateTime.now();
+        areaId = em.persistAndGetId(Area.builder()
+                .code("1168010100").name("역삼동").level(AreaLevel.EMD)
+                .createdAt(now).updatedAt(now).createBy(1L).updateBy(1L)
+                .build(), Integer.class);
+    }
+
+    @Test
+    void 목록_크기와_무관하게_쿼리_수가_같다() {
+        List<Product> one = seedProducts(1);
+        List<Product> thirty = seedProducts(30);
+
+        long singleCount = countStatements(one);
+        long thirtyCount = countStatements(thirty);
+
+        // 대표 이미지 ID 1회 + 대표 거래지역 ID 1회
+        assertThat(singleCount).isEqualTo(2);
+        assertThat(thirtyCount).isEqualTo(singleCount);
+    }
+
+    @Test
+    void 이미지가_없는_상품은_썸네일이_null() {
+        Product product = em.persist(newProduct());
+        em.flush();
+        em.clear();
+
+        List<ProductSummaryDto> summaries =
+                productService.toProductSummaryDtos(productRepository.findAllById(List.of(product.getId())), null);
+
+        assertThat(summaries).hasSize(1);
+        assertThat(summaries.get(0).getThumbnailUrl()).isNull();
+    }
+
+    private long countStatements(List<Product> products) {
+        List<Product> loaded = productRepository.findAllById(products.stream().map(Product::getId).toList());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        List<ProductSummaryDto> summaries = productService.toProductSummaryDtos(loaded, null);
+        long count = statistics.getPrepareStatementCount();
+
+        assertThat(summaries).hasSize(products.size());
+        return count;
+    }
+
+    private List<Product> seedProducts(int size) {
+        List<Product> products = new ArrayList<>();
+        Area area = em.find(Area.class, areaId);
+        for (int i = 0; i < size; i++) {
+            Product product = em.persist(newProduct());
+            em.persist(ProductImage.builder()
+                    .id(new ProductImageId(product.getId(), 1000L + product.getId()))
+                    .sortOrder(0)
+                    .product(product)
+                    .build());
+            em.persist(ProductTradeArea.builder()
+                    .id(new ProductTradeAreaId(product.getId(), areaId))
+                    .product(product)
+                    .area(area)
+                    .build());
+            products.add(product);
+        }
+        em.flush();
+        em.clear();
+        return products;
+    }
+
+    private Product newProduct() {
+        LocalDateTime now = LocalDateTime.now();
+        return Product.builder()
+                .sellerId(1L)
+                .name("유모차")
+                .content("상품 설명")
+                .price(10000)
+                .productStatus(ProductStatus.NEW)
+                .tradeStatus(TradeStatus.ON_SALE)
+                .recommendedAge(RecommendedAge.MONTH_0_6)
+                .viewCount(0)
+                .createdAt(now)
+                .updatedAt(now)
+                .createdBy(1L)
+                .updatedBy(1L)
+                .build();
+    }
+}
@@ -0,0 +1,45 @@
+package com.momnect.productservice.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JdbcStatementCounterTest {
+
+    private final EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .generateUniqueName(true)
+            .build();
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(JdbcStatementCounter.wrap(database));
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void 측정_구간에서_실행된_statement만_센다() {
+        jdbcTemplate.execute("CREATE TABLE t (id BIGINT PRIMARY KEY)");
+
+        JdbcStatementCounter.start();
+        // 배치 1회 + 조회 1회
+        jdbcTemplate.batchUpdate("INSERT INTO t (id) VALUES (?)",
+                List.of(new Object[]{1L}, new Object[]{2L}, new Object[]{3L}));
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM t", Long.class);
+        int statements = JdbcStatementCounter.stop();
+
+        assertThat(count).isEqualTo(3);
+        assertThat(statements).isEqualTo(2);
+
+        // 측정 구간 밖은 세지 않음
+        jdbcTemplate.update("DELETE FROM t");
+        assertThat(JdbcStatementCounter.stop()).isZero();
+    }
+}
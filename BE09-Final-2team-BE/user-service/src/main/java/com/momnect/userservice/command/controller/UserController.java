@@ -37,6 +37,14 @@ public class UserController {
         return ResponseEntity.ok(ApiResponse.success(userInfo));
     }
 
+    /**
+     * 기본 정보 일괄 조회 (채팅 목록 등 여러 사용자를 한 번에)
+     */
+    @GetMapping("/basic")
+    public ResponseEntity<ApiResponse<List<PublicUserDTO>>> getBasicInfos(@RequestParam List<Long> userIds) {
+        return ResponseEntity.ok(ApiResponse.success(userService.getBasicInfos(userIds)));
+    }
+
     /**
      * 사용자 존재 여부 확인
      */
@@ -285,11 +285,7 @@ public class UserService {
         }
 
         // 프로필 이미지가 없는 경우 기본 이미지 URL을 설정
-        String profileImageUrl = user.getProfileImageUrl();
-        if (profileImageUrl == null || profileImageUrl.isEmpty()) {
-            int index = (int) (userId %  DEFAULT_PROFILE_IMAGE_PATHS.size());
-            profileImageUrl = fileServerUrl + DEFAULT_PROFILE_IMAGE_PATHS.get(index);
-        }
+        String profileImageUrl = profileImageUrlOf(user);
 
         // 거래지역 조회
         List<String> tradeLocations = Collections.emptyList();
@@ -311,6 +307,25 @@ public class UserService {
                 .build();
     }
 
+    /**
+     * 기본 정보 일괄 조회 (닉네임, 프로필 이미지만)
+     * - 거래지역(상품 서비스 호출)은 제외 → IN 조회 한 번
+     * - 없거나 탈퇴한 사용자는 결과에서 빠짐
+     */
+    @Transactional(readOnly = true)
+    public List<PublicUserDTO> getBasicInfos(List<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) return List.of();
+
+        return userRepository.findAllById(userIds.stream().distinct().toList()).stream()
+                .filter(user -> !Boolean.TRUE.equals(user.getIsDeleted()))
+                .map(user -> PublicUserDTO.builder()
+                        .id(user.getId())
+                        .nickname(user.getNickname())
+                        .profileImageUrl(profileImageUrlOf(user))
+                        .build())
+                .toList();
+    }
+
     /**
      * 타 사용자 프로필 페이지 정보 조회 (통합)
      */
@@ -394,4 +409,14 @@ public class UserService {
 
         return userMapper.toUserDTO(user);
     }
-}
\ No newline at end of file
+
+    // 프로필 이미지 URL (없으면 사용자 ID 기준 기본 이미지)
+    private String profileImageUrlOf(User user) {
+        String profileImageUrl = user.getProfileImageUrl();
+        if (profileImageUrl == null || profileImageUrl.isEmpty()) {
+            int index = (int) (user.getId() % DEFAULT_PROFILE_IMAGE_PATHS.size());
+            profileImageUrl = fileServerUrl + DEFAULT_PROFILE_IMAGE_PATHS.get(index);
+        }
+        return profileImageUrl;
+    }
+}
@@ -59,6 +59,7 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/users/{userId}").permitAll()
                         .requestMatchers(HttpMethod.GET, "/users/{userId}/exists").permitAll()
                         .requestMatchers(HttpMethod.GET, "/users/{userId}/basic").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/users/basic").permitAll()
 
                         // 인증 필요
                         .requestMatchers(HttpMethod.POST, "/auth/logout").authenticated()